@@ -0,0 +1,73 @@
+package com.travelock.server.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좋아요/스크랩 중복 행 정리 (유니크 키 추가 전 1회)
+ * - (member_id, 일정 ID) 유니크 키는 ddl-auto 스키마 갱신으로 추가되는데, 중복 행이 있으면 생성에 실패함
+ * - EntityManagerFactory(스키마 갱신)보다 먼저 실행해서 같은 회원, 같은 일정의 행은 ID가 가장 작은 1개만 남김
+ * - 테이블이 없거나 유니크 키가 이미 있으면 건너뜀 (매번 실행해도 안전)
+ * - 좋아요/스크랩 수는 다음 재계산(CourseCountBuffer.repair)에서 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateInteractionCleaner implements InitializingBean {
+
+    // 테이블, ID 컬럼, 일정 ID 컬럼, 유니크 키 이름 (엔티티 @UniqueConstraint와 동일하게 유지)
+    private static final List<String[]> TABLES = List.of(
+            new String[]{"full_course_favorite", "full_course_favorite_id", "full_course_id", "uk_full_course_favorite_member_course"},
+            new String[]{"full_course_scrap", "full_course_scrap_id", "full_course_id", "uk_full_course_scrap_member_course"},
+            new String[]{"daily_course_favorite", "daily_course_favorite_id", "daily_course_id", "uk_daily_course_favorite_member_course"},
+            new String[]{"daily_course_scrap", "daily_course_scrap_id", "daily_course_id", "uk_daily_course_scrap_member_course"}
+    );
+
+    private static final String TABLE_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+    private static final String INDEX_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String[] table : TABLES) {
+            try {
+                if (count(TABLE_EXISTS_SQL, table[0]) == 0 || count(INDEX_EXISTS_SQL, table[0], table[3]) > 0) {
+                    continue;
+                }
+                // 같은 회원, 같은 일정에 ID가 더 작은 행이 있으면 삭제 -------------------------------- DB DELETE (1)
+                int deleted = jdbcTemplate.update(
+                        "DELETE t FROM " + table[0] + " t JOIN " + table[0] + " k " +
+                        "ON k.member_id = t.member_id AND k." + table[2] + " = t." + table[2] +
+                        " AND k." + table[1] + " < t." + table[1]);
+                if (deleted > 0) {
+                    log.info("좋아요/스크랩 중복 행 삭제 : {} {}건", table[0], deleted);
+                }
+            } catch (DataAccessException e) {
+                log.warn("좋아요/스크랩 중복 행 정리 실패 : {}", table[0], e);
+            }
+        }
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+
+    // 스키마 갱신(유니크 키 생성) 전에 정리가 끝나도록 EntityManagerFactory가 이 빈에 의존
+    @Component
+    static class EntityManagerFactoryDependsOnCleaner extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnCleaner() {
+            super(DuplicateInteractionCleaner.class);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.travelock.server.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 장소(place_id)의 SmallBlock 중복 행 정리 (place_id 유니크 키 추가 전 1회)
+ * - 이전 저장 흐름(placeId 조회 후 없으면 저장)은 동시 저장시 같은 장소가 여러 행으로 저장될 수 있었음
+ * - 유니크 키는 ddl-auto 스키마 갱신으로 추가되는데, 중복 행이 있으면 생성에 실패함
+ * - EntityManagerFactory(스키마 갱신)보다 먼저 실행해서 장소마다 ID가 가장 작은 행만 남김
+ *   (참조 수는 합쳐서 남는 행에, FullBlock, 리뷰는 남는 행을 가리키도록 변경한 뒤 삭제)
+ * - 각 단계는 다시 실행해도 같은 결과라 중간에 실패해도 다음 시작시 이어서 정리됨
+ * - 테이블이 없거나 유니크 키가 이미 있으면 건너뜀, 인기 장소 랭킹의 삭제된 ID는 다음 정리(rebuild)에서 빠짐
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateSmallBlockCleaner implements InitializingBean {
+
+    private static final String TABLE_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?";
+    private static final String UNIQUE_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() " +
+            "AND table_name = 'small_block' AND column_name = 'place_id' AND non_unique = 0";
+
+    // 장소별 남길 행 (ID가 가장 작은 행), 중복이 있는 장소만
+    private static final String KEEP_IDS =
+            "SELECT place_id, MIN(small_block_id) keep_id, SUM(reference_count) total FROM small_block " +
+            "WHERE place_id IS NOT NULL GROUP BY place_id HAVING COUNT(*) > 1";
+    // 삭제할 행 -> 남길 행
+    private static final String DUPLICATE_IDS =
+            "SELECT t.small_block_id dup_id, d.keep_id FROM small_block t " +
+            "JOIN (" + KEEP_IDS + ") d ON d.place_id = t.place_id AND t.small_block_id <> d.keep_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            if (count(TABLE_EXISTS_SQL, "small_block") == 0 || count(UNIQUE_EXISTS_SQL) > 0) {
+                return;
+            }
+
+            // 중복이 있는 장소 ------------------------------------------------------------------------- DB SELECT (1)
+            int places = count("SELECT COUNT(*) FROM (" + KEEP_IDS + ") d");
+            if (places == 0) {
+                return;
+            }
+
+            // 참조 수 합계를 남길 행에 (합계로 덮어쓰므로 다시 실행해도 같은 값) --------------------------- DB UPDATE (1)
+            jdbcTemplate.update(
+                    "UPDATE small_block k JOIN (" + KEEP_IDS + ") d ON k.small_block_id = d.keep_id SET k.reference_count = d.total");
+
+            // 중복 행을 가리키는 FullBlock, 리뷰를 남길 행으로 변경 ---------------------------------------- DB UPDATE (2)
+            int fullBlocks = repoint("full_block");
+            int reviews = repoint("small_block_review");
+
+            // 같은 장소에 ID가 더 작은 행이 있으면 삭제 ------------------------------------------------ DB DELETE (1)
+            int deleted = jdbcTemplate.update(
+                    "DELETE t FROM small_block t JOIN small_block k " +
+                    "ON k.place_id = t.place_id AND k.small_block_id < t.small_block_id");
+            log.info("SmallBlock 중복 행 삭제 : 장소 {}개, {}건 (FullBlock {}건, 리뷰 {}건 변경)", places, deleted, fullBlocks, reviews);
+        } catch (DataAccessException e) {
+            log.warn("SmallBlock 중복 행 정리 실패", e);
+        }
+    }
+
+    private int repoint(String table) {
+        if (count(TABLE_EXISTS_SQL, table) == 0) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+                "UPDATE " + table + " f JOIN (" + DUPLICATE_IDS + ") m ON m.dup_id = f.small_block_id SET f.small_block_id = m.keep_id");
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+
+    // 스키마 갱신(유니크 키 생성) 전에 정리가 끝나도록 EntityManagerFactory가 이 빈에 의존
+    @Component
+    static class EntityManagerFactoryDependsOnCleaner extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnCleaner() {
+            super(DuplicateSmallBlockCleaner.class);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.travelock.server.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 시퀀스 ID 초기화
+ * - IDENTITY로 저장된 기존 행이 있는 테이블은 시퀀스가 1부터 시작하면 ID가 겹침
+ * - 기동시(요청을 받기 전) 각 시퀀스를 MAX(id) + 할당크기 이후로 당겨둠
+ * - MariaDB SETVAL은 현재값보다 작으면 무시되므로 매번 실행해도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // @SequenceGenerator allocationSize와 동일하게 유지
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 이름 -> 테이블, ID 컬럼
+    private static final Map<String, String[]> SEQUENCES = Map.of(
+            "daily_course_seq", new String[]{"daily_course", "daily_course_id"},
+            "full_block_seq", new String[]{"full_block", "full_block_id"},
+            "daily_block_connect_seq", new String[]{"daily_block_connect", "daily_block_connect_id"},
+            "full_and_daily_course_connect_seq", new String[]{"full_and_daily_course_connect", "full_daily_course_connect_id"},
+            "full_course_favorite_seq", new String[]{"full_course_favorite", "full_course_favorite_id"},
+            "full_course_scrap_seq", new String[]{"full_course_scrap", "full_course_scrap_id"},
+            "daily_course_favorite_seq", new String[]{"daily_course_favorite", "daily_course_favorite_id"},
+            "daily_course_scrap_seq", new String[]{"daily_course_scrap", "daily_course_scrap_id"},
+            "small_block_seq", new String[]{"small_block", "small_block_id"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach((sequence, table) -> {
+            try {
+                Long maxId = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(" + table[1] + "), 0) FROM " + table[0], Long.class);
+                long next = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+                jdbcTemplate.queryForList("SELECT SETVAL(" + sequence + ", " + next + ")");
+            } catch (DataAccessException e) {
+                log.warn("시퀀스 초기화 실패 : {}", sequence, e);
+            }
+        });
+    }
+}
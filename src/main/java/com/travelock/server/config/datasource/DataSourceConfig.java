@@ -0,0 +1,56 @@
+package com.travelock.server.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅 설정 (application.datasource.replica.enabled=true 일때만 적용)
+ * - 기본 spring.datasource는 primary(쓰기)로 사용
+ * - LazyConnectionDataSourceProxy로 감싸서 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 획득
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "application.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties,
+                                                         ReplicaDataSourceProperties replicaProperties) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaDataSourceProperties.Node node = nodes.get(i);
+            replicas.put("replica-" + i, DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(node.getUrl())
+                    .username(node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername())
+                    .password(node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword())
+                    .build());
+        }
+
+        return new ReplicationRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
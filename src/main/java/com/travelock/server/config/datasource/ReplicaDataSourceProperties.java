@@ -0,0 +1,33 @@
+package com.travelock.server.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// application.datasource.replica 설정 (읽기 전용 복제본)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    // 쓰기 요청 이후 primary로 고정할 시간(초)
+    private int stickySeconds = 5;
+
+    // 복제본 상태 확인 주기(ms)
+    private long healthCheckInterval = 5000;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username; // 생략시 primary 계정 사용
+        private String password;
+    }
+}
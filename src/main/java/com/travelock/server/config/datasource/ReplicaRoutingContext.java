@@ -0,0 +1,34 @@
+package com.travelock.server.config.datasource;
+
+import java.util.function.Supplier;
+
+// 요청 단위로 primary 사용을 강제하는 컨텍스트 (쓰기 직후 read-your-writes 보장용)
+public class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+
+    // 작업 동안만 primary 강제 (요청 단위로 이미 강제된 경우 그대로 유지)
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean forced = isPrimaryForced();
+        forcePrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!forced) {
+                clear();
+            }
+        }
+    }
+}
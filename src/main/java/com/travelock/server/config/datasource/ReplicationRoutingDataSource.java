@@ -0,0 +1,108 @@
+package com.travelock.server.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅
+ * - @Transactional(readOnly = true) 트랜잭션은 정상 상태의 복제본으로 라운드로빈
+ * - 그 외(쓰기, 트랜잭션 없음, primary 강제)는 primary
+ * - 복제본 커넥션 획득 실패시 해당 복제본을 제외하고 primary로 대체, 상태 확인에서 복구되면 다시 사용
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = replicas;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+
+        healthyReplicas.addAll(replicas.keySet());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaRoutingContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+
+        List<String> candidates = new ArrayList<>(healthyReplicas);
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        Collections.sort(candidates);
+        return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return getResolvedDefaultDataSource().getConnection();
+        }
+
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markDown((String) key, e);
+            return getResolvedDefaultDataSource().getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return getResolvedDefaultDataSource().getConnection(username, password);
+        }
+
+        try {
+            return replicas.get(key).getConnection(username, password);
+        } catch (SQLException e) {
+            markDown((String) key, e);
+            return getResolvedDefaultDataSource().getConnection(username, password);
+        }
+    }
+
+    // 복제본 상태 확인 (실패한 복제본 제외, 복구된 복제본 재사용)
+    @Scheduled(fixedDelayString = "${application.datasource.replica.health-check-interval:5000}")
+    public void checkReplicaHealth() {
+        replicas.forEach((key, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                if (connection.isValid(1)) {
+                    if (healthyReplicas.add(key)) {
+                        log.info("복제본 복구 : {}", key);
+                    }
+                } else {
+                    markDown(key, null);
+                }
+            } catch (SQLException e) {
+                markDown(key, e);
+            }
+        });
+    }
+
+    private void markDown(String key, SQLException e) {
+        if (healthyReplicas.remove(key)) {
+            log.warn("복제본 제외, primary로 대체 : {}", key, e);
+        }
+    }
+}
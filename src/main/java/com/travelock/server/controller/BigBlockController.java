@@ -1,6 +1,6 @@
 package com.travelock.server.controller;
 
-import com.travelock.server.domain.BigBlock;
+import com.travelock.server.dto.BigBlockDTO;
 import com.travelock.server.service.BigBlockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +20,7 @@ public class BigBlockController {
 
     // 특정 시/도에 속한 시/군/구(BigBlock) 조회 메서드
     @GetMapping("/{stateCode}/{cityCode}")
-    public BigBlock getBigBlock(@PathVariable String stateCode, @PathVariable String cityCode) {
+    public BigBlockDTO getBigBlock(@PathVariable String stateCode, @PathVariable String cityCode) {
         log.info("API 호출: stateCode={}, cityCode={}", stateCode, cityCode);
         return bigBlockService.getBigBlock(stateCode, cityCode);
     }
@@ -1,11 +1,16 @@
 package com.travelock.server.controller;
 
 import com.travelock.server.converter.DTOConverter;
-import com.travelock.server.domain.DailyCourse;
+import com.travelock.server.dto.CourseInteractionDTO;
 import com.travelock.server.dto.DailyCourseRequestDTO;
 import com.travelock.server.dto.DailyCourseResponseDTO;
 import com.travelock.server.dto.course.daily_create.DailyCourseCreateDto;
+import com.travelock.server.dto.course.daily_modify.DailyCourseModifyDto;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
 import com.travelock.server.service.DailyCourseService;
+import com.travelock.server.service.cache.CourseInteractionCacheService;
+import com.travelock.server.service.cache.CourseRecommendService;
+import com.travelock.server.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -14,6 +19,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,27 +33,57 @@ import java.util.List;
 public class DailyCourseController {
    private final DailyCourseService dailyCourseService;
    private final CourseRecommendService courseRecommendService;
+   private final CourseInteractionCacheService courseInteractionCacheService;
 
     @Operation(summary = "일일일정 조회",
             tags = {"일일일정 API - V1"},
             description = "일일일정 조회",
             parameters = {
                     @Parameter(name = "dailyCourseId", description = "일일일정 ID", required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "If-None-Match", description = "이전 응답의 ETag", in = ParameterIn.HEADER),
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "400", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
+                    @ApiResponse(responseCode = "404", description = "조회 실패", content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
             })
     @GetMapping("/{dailyCourseId}")
-    public ResponseEntity<?> getDailyCourseById(@PathVariable Long dailyCourseId) {
-        return ResponseEntity.ok(DTOConverter.toDto(dailyCourseService.findDailyCourse(dailyCourseId)
-                ,DailyCourseResponseDTO::fromDomainToResponseDTO));
+    public ResponseEntity<?> getDailyCourseById(@PathVariable Long dailyCourseId,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 내려줄 응답(스냅샷 우선)으로 ETag 계산, 같으면 본문 없이 304 반환 (없는 일정은 404)
+        DailyCourseResponseDTO dailyCourse = dailyCourseService.getDailyCourseDetail(dailyCourseId);
+        String eTag = dailyCourseService.getDailyCourseETag(dailyCourse);
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(dailyCourse);
+    }
+
+    @Operation(summary = "일일일정 일괄 조회",
+            tags = {"일일일정 API - V1"},
+            description = "일일일정 ID 목록으로 일괄 조회 (요청 순서 유지, 없는 ID는 제외)",
+            parameters = {
+                    @Parameter(name = "ids", description = "일일일정 ID 목록 (예: ids=1,2,3)", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @GetMapping("/batch")
+    public ResponseEntity<?> getDailyCoursesByIds(@RequestParam List<Long> ids) {
+        List<DailyCourseResponseDTO> response = dailyCourseService.getDailyCourseDetails(ids);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @Operation(summary = "일일일정 저장",
             tags = {"일일일정 API - V1"},
             description = "일일일정 저장",
+            parameters = {
+                    @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER)
+            },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "일일일정 생성 Dto",
                     required = true,
@@ -69,27 +105,49 @@ public class DailyCourseController {
 
     @Operation(summary = "일일일정 수정",
             tags = {"일일일정 API - V1"},
-            description = "일일일정 수정",
+            description = "일일일정 수정 (조회시 받은 version 필수, 그 사이 다른 수정이 있으면 409와 현재 버전 반환)",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
-                    description = "일일일정 생성 Dto",
+                    description = "일일일정 수정 Dto",
                     required = true,
-                    content = @Content(schema = @Schema(implementation = DailyCourseCreateDto.class))
+                    content = @Content(schema = @Schema(implementation = DailyCourseModifyDto.class))
             ),
             responses = {
-                    @ApiResponse(responseCode = "201", description = "일일일정 수정 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "200", description = "일일일정 수정 성공", content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "400", description = "일일일정 수정 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "409", description = "버전 충돌 (currentVersion 포함)", content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
             })
     @PutMapping
-    public ResponseEntity<?> modifyDailyCourse(@RequestBody DailyCourseCreateDto request){
+    public ResponseEntity<?> modifyDailyCourse(@RequestBody DailyCourseModifyDto request){
 
-        // Response DTO로 변환해서 반환
-        DailyCourseResponseDTO response = DTOConverter.toDto(dailyCourseService.modifyDailyCourse(request)
-                , DailyCourseResponseDTO::fromDomainToResponseDTO);
+        // 기존 블록과 비교해서 바뀐 부분만 반영
+        dailyCourseService.modifyDailyCourse(request);
         return ResponseEntity.status(HttpStatus.OK).body("수정됨");
     }
 
 
+    @Operation(summary = "일일일정 블록 이동",
+            tags = {"일일일정 API - V1"},
+            description = "블록을 afterFullBlockId 블록 바로 뒤로 이동 (없으면 맨 앞으로), 이동한 블록만 수정됨",
+            parameters = {
+                    @Parameter(name = "dailyCourseId", description = "일일일정 ID", required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "fullBlockId", description = "이동할 블록 ID", required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "afterFullBlockId", description = "이 블록 뒤로 이동 (없으면 맨 앞)", in = ParameterIn.QUERY),
+                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "블록 이동 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "블록 이동 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @PatchMapping("/{dailyCourseId}/blocks/{fullBlockId}/move")
+    public ResponseEntity<?> moveBlock(@PathVariable Long dailyCourseId, @PathVariable Long fullBlockId,
+                                       @RequestParam(required = false) Long afterFullBlockId, @RequestParam Long memberId) {
+        dailyCourseService.moveBlock(dailyCourseId, memberId, fullBlockId, afterFullBlockId);
+        return ResponseEntity.status(HttpStatus.OK).body("이동됨");
+    }
+
+
 //    //일일일정 조회
 //   조회 public ResponseEntity<?> getDailyCourse(){getDailyCourse
 //        dailyCourseService
@@ -103,16 +161,69 @@ public class DailyCourseController {
 
     @Operation(summary = "추천 일일일정",
             tags = {"일일일정 API - V1"},
-            description = "캐시된 추천 일일일정 조회",
+            description = "좋아요 + 스크랩 수 기준 인기 일일일정 (좋아요/스크랩시 바로 반영), mode=hot 이면 최근 좋아요/스크랩일수록 높은 점수 (반감기 감쇠), " +
+                    "stateCode, cityCode, category 를 주면 해당 지역/카테고리 블록을 포함한 일일일정만 (mode=all 에서만 지원), " +
+                    "mode=personal 이면 memberId 사용자의 좋아요/스크랩, 다녀온 지역 기준으로 미리 계산된 추천 (없으면 전체 기간 순위)",
+            parameters = {
+                    @Parameter(name = "mode", description = "all(전체 기간, 기본값) / hot(최근 인기) / personal(사용자 추천)", in = ParameterIn.QUERY),
+                    @Parameter(name = "memberId", description = "사용자 ID (mode=personal 에서 필요)", in = ParameterIn.QUERY),
+                    @Parameter(name = "stateCode", description = "시/도 코드", in = ParameterIn.QUERY),
+                    @Parameter(name = "cityCode", description = "시/군/구 코드 (stateCode 필요)", in = ParameterIn.QUERY),
+                    @Parameter(name = "category", description = "카테고리 코드", in = ParameterIn.QUERY)
+            },
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "404", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "지원하지 않는 mode, 없는 지역/카테고리 코드, personal 에서 memberId 없음", content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
             })
     @GetMapping("/recommend")
-    public ResponseEntity<?> getRecommendedDailyCourses(){
-        List<DailyCourse> topDailyCoursesFromCache = courseRecommendService.getTopDailyCoursesFromCache();
-        return ResponseEntity.status(HttpStatus.OK).body(topDailyCoursesFromCache);
+    public ResponseEntity<?> getRecommendedDailyCourses(@RequestParam(defaultValue = "all") String mode,
+                                                        @RequestParam(required = false) String stateCode,
+                                                        @RequestParam(required = false) String cityCode,
+                                                        @RequestParam(required = false) String category,
+                                                        @RequestParam(required = false) Long memberId){
+        boolean filtered = stateCode != null || cityCode != null || category != null;
+        List<Long> topIds = switch (mode) {
+            case "all" -> courseRecommendService.getTopDailyCourseIds(stateCode, cityCode, category);
+            case "hot" -> {
+                if (filtered) {
+                    throw new BadRequestException("mode=hot does not support stateCode, cityCode, category");
+                }
+                yield courseRecommendService.getHotDailyCourseIds();
+            }
+            case "personal" -> {
+                if (filtered) {
+                    throw new BadRequestException("mode=personal does not support stateCode, cityCode, category");
+                }
+                if (memberId == null) {
+                    throw new BadRequestException("memberId is required for mode=personal");
+                }
+                yield courseRecommendService.getPersonalDailyCourseIds(memberId);
+            }
+            default -> throw new BadRequestException("Unsupported mode : " + mode);
+        };
+        List<DailyCourseResponseDTO> response = topIds.isEmpty() ? List.of() : dailyCourseService.getDailyCourseDetails(topIds);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(summary = "일일일정 좋아요/스크랩 여부",
+            tags = {"일일일정 API - V1"},
+            description = "일일일정 ID 목록에 대한 사용자의 좋아요/스크랩 여부 (ids 순서대로 '1' 했음, '0' 안함)",
+            parameters = {
+                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY),
+                    @Parameter(name = "ids", description = "일일일정 ID 목록 (예: ids=1,2,3)", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
+                            schema = @Schema(implementation = CourseInteractionDTO.class),
+                            mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @GetMapping("/interactions")
+    public ResponseEntity<?> getDailyCourseInteractions(@RequestParam Long memberId, @RequestParam List<Long> ids) {
+        CourseInteractionDTO response = courseInteractionCacheService.getDailyCourseInteractions(memberId, ids);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
 
@@ -120,12 +231,14 @@ public class DailyCourseController {
            tags = {"일일일정 API - V1"},
            description = "일일일정 좋아요",
            parameters = {
+                   @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER),
                    @Parameter(name = "dailyCourseId", description = "일일일정 ID", required = true, in = ParameterIn.PATH),
                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
            },
            responses = {
                    @ApiResponse(responseCode = "201", description = "좋아요 성공", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "400", description = "좋아요 실패", content = @Content(mediaType = "application/json")),
+                   @ApiResponse(responseCode = "404", description = "사용자 또는 일정 없음", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
            })
    @PostMapping("/favorite/{dailyCourseId}")
@@ -138,12 +251,14 @@ public class DailyCourseController {
            tags = {"일일일정 API - V1"},
            description = "일일일정 스크랩",
            parameters = {
+                   @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER),
                    @Parameter(name = "dailyCourseId", description = "일일일정 ID", required = true, in = ParameterIn.PATH),
                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
            },
            responses = {
                    @ApiResponse(responseCode = "201", description = "스크랩 성공", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "400", description = "스크랩 실패", content = @Content(mediaType = "application/json")),
+                   @ApiResponse(responseCode = "404", description = "사용자 또는 일정 없음", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
            })
    @PostMapping("/scrap/{dailyCourseId}")
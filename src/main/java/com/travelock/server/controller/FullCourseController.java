@@ -1,15 +1,19 @@
 package com.travelock.server.controller;
 
 import com.travelock.server.converter.DTOConverter;
-import com.travelock.server.domain.FullCourse;
+import com.travelock.server.dto.CourseInteractionDTO;
 import com.travelock.server.dto.DailyCourseRequestDTO;
+import com.travelock.server.dto.FullCourseCardPageDTO;
 import com.travelock.server.dto.FullCourseRequestDTO;
 import com.travelock.server.dto.FullCourseResponseDTO;
 import com.travelock.server.dto.SmallBlockReviewDto;
 import com.travelock.server.dto.course.daily_create.DailyCourseCreateDto;
 import com.travelock.server.dto.course.full_create.FullCourseCreateDto;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
 import com.travelock.server.service.FullCourseService;
+import com.travelock.server.service.cache.CourseInteractionCacheService;
 import com.travelock.server.service.cache.CourseRecommendService;
+import com.travelock.server.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -18,10 +22,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collections;
 import java.util.List;
 
 @RestController
@@ -31,32 +37,83 @@ import java.util.List;
 public class FullCourseController {
    private final FullCourseService fullCourseService;
    private final CourseRecommendService courseRecommendService;
+   private final CourseInteractionCacheService courseInteractionCacheService;
 
 
     @Operation(summary = "사용자의 전체일정 조회",
             tags = {"전체일정 API - V1"},
-            description = "사용자의 전체일정 조회",
+            description = "사용자의 전체일정 조회 (커서 기반 페이징)",
             parameters = {
-                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
+                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "cursor", description = "이전 페이지의 nextCursor (첫 페이지는 생략)", in = ParameterIn.QUERY),
+                    @Parameter(name = "size", description = "페이지 크기 (생략시 기본값)", in = ParameterIn.QUERY)
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
-                            schema = @Schema(implementation = FullCourseResponseDTO.class),
+                            schema = @Schema(implementation = FullCourseCardPageDTO.class),
                             mediaType = "application/json")),
                     @ApiResponse(responseCode = "400", description = "조회 실패", content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
             })
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<?> getFullCoursesByMember(@PathVariable Long memberId) {
-        // Response DTO로 변환해서 반환
-        List<FullCourseResponseDTO> response = DTOConverter.toDtoList(fullCourseService.findMemberFullCourses(memberId)
-                , FullCourseResponseDTO::fromDomainToResponseDTO);
+    public ResponseEntity<?> getFullCoursesByMember(@PathVariable Long memberId,
+                                                    @RequestParam(required = false) Long cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        FullCourseCardPageDTO response = fullCourseService.findMemberFullCourses(memberId, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(summary = "전체일정 조회",
+            tags = {"전체일정 API - V1"},
+            description = "전체일정 상세 조회 (일일일정, 블록 포함)",
+            parameters = {
+                    @Parameter(name = "fullCourseId", description = "전체일정 ID", required = true, in = ParameterIn.PATH),
+                    @Parameter(name = "If-None-Match", description = "이전 응답의 ETag", in = ParameterIn.HEADER)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
+                            schema = @Schema(implementation = FullCourseResponseDTO.class),
+                            mediaType = "application/json")),
+                    @ApiResponse(responseCode = "304", description = "변경 없음"),
+                    @ApiResponse(responseCode = "404", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @GetMapping("/{fullCourseId}")
+    public ResponseEntity<?> getFullCourseById(@PathVariable Long fullCourseId,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 내려줄 응답(스냅샷 우선)으로 ETag 계산, 같으면 본문 없이 304 반환 (없는 일정은 404)
+        FullCourseResponseDTO fullCourse = fullCourseService.getFullCourseDetail(fullCourseId);
+        String eTag = fullCourseService.getFullCourseETag(fullCourse);
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(fullCourse);
+    }
+
+    @Operation(summary = "전체일정 일괄 조회",
+            tags = {"전체일정 API - V1"},
+            description = "전체일정 ID 목록으로 일괄 조회 (요청 순서 유지, 없는 ID는 제외)",
+            parameters = {
+                    @Parameter(name = "ids", description = "전체일정 ID 목록 (예: ids=1,2,3)", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @GetMapping("/batch")
+    public ResponseEntity<?> getFullCoursesByIds(@RequestParam List<Long> ids) {
+        List<FullCourseResponseDTO> response = fullCourseService.getFullCourseDetails(ids);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @Operation(summary = "전체일정 저장",
             tags = {"전체일정 API - V1"},
             description = "전체일정 저장",
+            parameters = {
+                    @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER)
+            },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "전체일정 요청 Dto",
                     required = true,
@@ -75,6 +132,50 @@ public class FullCourseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "전체일정 한번에 저장",
+            tags = {"전체일정 API - V1"},
+            description = "전체일정, 일자별 일일일정, 블록을 한 트랜잭션으로 저장 (중간에 실패하면 모두 롤백)",
+            parameters = {
+                    @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER)
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "전체일정 + 일자별 블록 목록 Dto",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = FullCourseCreateDto.class))
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "전체일정 저장 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "요청 데이터 오류", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "404", description = "사용자 또는 블록 없음", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @PostMapping("/trip")
+    public ResponseEntity<?> createFullTrip(@RequestBody FullCourseCreateDto request) {
+        Long fullCourseId = fullCourseService.createFullTrip(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(Collections.singletonMap("fullCourseId", fullCourseId));
+    }
+
+
+    @Operation(summary = "전체일정 제목 수정",
+            tags = {"전체일정 API - V1"},
+            description = "전체일정 제목 수정 (조회시 받은 version 필수, 그 사이 다른 수정이 있으면 409와 현재 버전 반환)",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "전체일정 요청 Dto (fullCourseId, memberId, title, version)",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = FullCourseRequestDTO.class))
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "제목 수정 성공", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "제목 또는 버전 누락", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "404", description = "전체일정 없음", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "409", description = "버전 충돌 (currentVersion 포함)", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @PatchMapping("/title")
+    public ResponseEntity<?> modifyTitle(@RequestBody FullCourseRequestDTO request) {
+        fullCourseService.modifyTitle(request);
+        return ResponseEntity.status(HttpStatus.OK).body("수정됨");
+    }
 
 //    //일정 교체
 //    public ResponseEntity<?> changeDailyCourse(@RequestBody DailyCourseRequestDTO requestDTO){
@@ -84,16 +185,69 @@ public class FullCourseController {
 
     @Operation(summary = "추천 전체일정",
             tags = {"전체일정 API - V1"},
-            description = "캐시된 추천 전체일정 조회",
+            description = "좋아요 + 스크랩 수 기준 인기 전체일정 (좋아요/스크랩시 바로 반영), mode=hot 이면 최근 좋아요/스크랩일수록 높은 점수 (반감기 감쇠), " +
+                    "stateCode, cityCode, category 를 주면 해당 지역/카테고리 블록을 포함한 전체일정만 (mode=all 에서만 지원), " +
+                    "mode=personal 이면 memberId 사용자의 좋아요/스크랩, 다녀온 지역 기준으로 미리 계산된 추천 (없으면 전체 기간 순위)",
+            parameters = {
+                    @Parameter(name = "mode", description = "all(전체 기간, 기본값) / hot(최근 인기) / personal(사용자 추천)", in = ParameterIn.QUERY),
+                    @Parameter(name = "memberId", description = "사용자 ID (mode=personal 에서 필요)", in = ParameterIn.QUERY),
+                    @Parameter(name = "stateCode", description = "시/도 코드", in = ParameterIn.QUERY),
+                    @Parameter(name = "cityCode", description = "시/군/구 코드 (stateCode 필요)", in = ParameterIn.QUERY),
+                    @Parameter(name = "category", description = "카테고리 코드", in = ParameterIn.QUERY)
+            },
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "404", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "지원하지 않는 mode, 없는 지역/카테고리 코드, personal 에서 memberId 없음", content = @Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
             })
     @GetMapping("/recommend")
-    public ResponseEntity<?> getRecommendedFullCourses(){
-        List<FullCourse> topFullCoursesFromCache = courseRecommendService.getTopFullCoursesFromCache();
-        return ResponseEntity.status(HttpStatus.OK).body(topFullCoursesFromCache);
+    public ResponseEntity<?> getRecommendedFullCourses(@RequestParam(defaultValue = "all") String mode,
+                                                       @RequestParam(required = false) String stateCode,
+                                                       @RequestParam(required = false) String cityCode,
+                                                       @RequestParam(required = false) String category,
+                                                       @RequestParam(required = false) Long memberId){
+        boolean filtered = stateCode != null || cityCode != null || category != null;
+        List<Long> topIds = switch (mode) {
+            case "all" -> courseRecommendService.getTopFullCourseIds(stateCode, cityCode, category);
+            case "hot" -> {
+                if (filtered) {
+                    throw new BadRequestException("mode=hot does not support stateCode, cityCode, category");
+                }
+                yield courseRecommendService.getHotFullCourseIds();
+            }
+            case "personal" -> {
+                if (filtered) {
+                    throw new BadRequestException("mode=personal does not support stateCode, cityCode, category");
+                }
+                if (memberId == null) {
+                    throw new BadRequestException("memberId is required for mode=personal");
+                }
+                yield courseRecommendService.getPersonalFullCourseIds(memberId);
+            }
+            default -> throw new BadRequestException("Unsupported mode : " + mode);
+        };
+        List<FullCourseResponseDTO> response = topIds.isEmpty() ? List.of() : fullCourseService.getFullCourseDetails(topIds);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @Operation(summary = "전체일정 좋아요/스크랩 여부",
+            tags = {"전체일정 API - V1"},
+            description = "전체일정 ID 목록에 대한 사용자의 좋아요/스크랩 여부 (ids 순서대로 '1' 했음, '0' 안함)",
+            parameters = {
+                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY),
+                    @Parameter(name = "ids", description = "전체일정 ID 목록 (예: ids=1,2,3)", required = true, in = ParameterIn.QUERY)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(
+                            schema = @Schema(implementation = CourseInteractionDTO.class),
+                            mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "조회 실패", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+            })
+    @GetMapping("/interactions")
+    public ResponseEntity<?> getFullCourseInteractions(@RequestParam Long memberId, @RequestParam List<Long> ids) {
+        CourseInteractionDTO response = courseInteractionCacheService.getFullCourseInteractions(memberId, ids);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
 
@@ -102,12 +256,14 @@ public class FullCourseController {
            tags = {"전체일정 API - V1"},
            description = "전체일정 좋아요",
            parameters = {
+                   @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER),
                    @Parameter(name = "fullCourseId", description = "전체일정 ID", required = true, in = ParameterIn.PATH),
                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
            },
            responses = {
                    @ApiResponse(responseCode = "201", description = "좋아요 성공", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "400", description = "좋아요 실패", content = @Content(mediaType = "application/json")),
+                   @ApiResponse(responseCode = "404", description = "사용자 또는 일정 없음", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
            })
    @PostMapping("/favorite/{fullCourseId}")
@@ -117,16 +273,40 @@ public class FullCourseController {
    }
 
 
+   @Operation(summary = "전체일정 일자 이동",
+           tags = {"전체일정 API - V1"},
+           description = "일일일정을 afterDailyCourseId 일정 바로 뒤로 이동 (없으면 첫째 날로), 이동한 일자만 수정됨",
+           parameters = {
+                   @Parameter(name = "fullCourseId", description = "전체일정 ID", required = true, in = ParameterIn.PATH),
+                   @Parameter(name = "dailyCourseId", description = "이동할 일일일정 ID", required = true, in = ParameterIn.PATH),
+                   @Parameter(name = "afterDailyCourseId", description = "이 일정 뒤로 이동 (없으면 첫째 날)", in = ParameterIn.QUERY),
+                   @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
+           },
+           responses = {
+                   @ApiResponse(responseCode = "200", description = "일자 이동 성공", content = @Content(mediaType = "application/json")),
+                   @ApiResponse(responseCode = "400", description = "일자 이동 실패", content = @Content(mediaType = "application/json")),
+                   @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
+           })
+   @PatchMapping("/{fullCourseId}/days/{dailyCourseId}/move")
+   public ResponseEntity<?> moveDailyCourse(@PathVariable Long fullCourseId, @PathVariable Long dailyCourseId,
+                                            @RequestParam(required = false) Long afterDailyCourseId, @RequestParam Long memberId) {
+       fullCourseService.moveDailyCourse(fullCourseId, memberId, dailyCourseId, afterDailyCourseId);
+       return ResponseEntity.status(HttpStatus.OK).body("이동됨");
+   }
+
+
    @Operation(summary = "전체일정 스크랩",
            tags = {"전체일정 API - V1"},
            description = "전체일정 스크랩",
            parameters = {
+                   @Parameter(name = "Idempotency-Key", description = "중복 요청 방지 키 (재시도시 같은 값)", in = ParameterIn.HEADER),
                    @Parameter(name = "fullCourseId", description = "전체일정 ID", required = true, in = ParameterIn.PATH),
                    @Parameter(name = "memberId", description = "사용자 ID", required = true, in = ParameterIn.QUERY)
            },
            responses = {
                    @ApiResponse(responseCode = "201", description = "스크랩 성공", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "400", description = "스크랩 실패", content = @Content(mediaType = "application/json")),
+                   @ApiResponse(responseCode = "404", description = "사용자 또는 일정 없음", content = @Content(mediaType = "application/json")),
                    @ApiResponse(responseCode = "500", description = "서버 오류", content = @Content(mediaType = "application/json")),
            })
    @PostMapping("/scrap/{fullCourseId}")
@@ -1,12 +1,13 @@
 package com.travelock.server.controller;
 
-import com.travelock.server.domain.MiddleBlock;
+import com.travelock.server.dto.MiddleBlockDTO;
 import com.travelock.server.service.MiddleBlockService;
+import com.travelock.server.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -17,15 +18,20 @@ public class MiddleBlockController {
 
     private final MiddleBlockService middleBlockService;
 
-    // 카테고리 목록 조회
+    // 카테고리 목록 조회 (내용이 같으면 304)
     @GetMapping("/category")
-    public List<MiddleBlock> getAllMiddleBlocks() {
-        return middleBlockService.getAllCategories();
+    public ResponseEntity<List<MiddleBlockDTO>> getAllMiddleBlocks(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = middleBlockService.getAllCategoriesETag();
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(middleBlockService.getAllCategories());
     }
 
     // 특정 카테고리 코드로 조회 ->
     @GetMapping("/{categoryCode}")
-    public MiddleBlock getMiddleBlockByCategoryCode(@PathVariable String categoryCode) {
+    public MiddleBlockDTO getMiddleBlockByCategoryCode(@PathVariable String categoryCode) {
         return middleBlockService.getCategoryByCode(categoryCode);
     }
 }
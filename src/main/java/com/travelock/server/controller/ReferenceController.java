@@ -0,0 +1,26 @@
+package com.travelock.server.controller;
+
+import com.travelock.server.service.cache.ReferenceDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/reference")
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceController {
+
+    private final ReferenceDictionary referenceDictionary;
+
+    // 지역/카테고리 시드 데이터 변경 후 사전 다시 읽기
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        log.info("지역/카테고리 사전 reload 호출");
+        referenceDictionary.reload();
+        return ResponseEntity.ok().build();
+    }
+}
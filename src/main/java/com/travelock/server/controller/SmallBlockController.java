@@ -1,7 +1,11 @@
 package com.travelock.server.controller;
 
 import com.travelock.server.domain.SmallBlock;
+import com.travelock.server.dto.AlsoAddedPlaceDTO;
+import com.travelock.server.dto.PlaceRankDTO;
 import com.travelock.server.service.SmallBlockService;
+import com.travelock.server.service.cache.PlaceCooccurrenceService;
+import com.travelock.server.service.cache.PlaceLeaderboardService;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.Response;
 import org.springframework.http.HttpStatus;
@@ -16,6 +20,8 @@ import java.util.List;
 public class SmallBlockController {
 
     private final SmallBlockService smallBlockService;
+    private final PlaceLeaderboardService placeLeaderboardService;
+    private final PlaceCooccurrenceService placeCooccurrenceService;
 
     // 스몰블록 생성 (카카오에서 데이터 가져오기)
     @PostMapping("/search")
@@ -29,13 +35,31 @@ public class SmallBlockController {
 
     }
 
-    // 전체 스몰블록 조회
+    // 전체 스몰블록 조회 (참조 수 높은 순)
     @GetMapping("/list")
     public ResponseEntity<List<SmallBlock>> getAllSmallBlocks() {
         List<SmallBlock> smallBlocks = smallBlockService.getAllSmallBlocks();
         return ResponseEntity.ok(smallBlocks);
     }
 
+    // 인기 장소 (일정에 많이 추가된 순, 지역/카테고리 필터, cityCode는 stateCode와 함께)
+    @GetMapping("/top")
+    public ResponseEntity<List<PlaceRankDTO>> getTopPlaces(@RequestParam(required = false) String stateCode,
+                                                           @RequestParam(required = false) String cityCode,
+                                                           @RequestParam(required = false) String category,
+                                                           @RequestParam(required = false) Integer size) {
+        List<PlaceRankDTO> places = placeLeaderboardService.getTopPlaces(stateCode, cityCode, category, size);
+        return ResponseEntity.ok(places);
+    }
+
+    // 이 장소를 추가한 사람들이 같은 날 함께 추가한 장소 (많이 함께 추가된 순)
+    @GetMapping("/{id}/also-added")
+    public ResponseEntity<List<AlsoAddedPlaceDTO>> getAlsoAddedPlaces(@PathVariable Long id,
+                                                                      @RequestParam(required = false) Integer size) {
+        List<AlsoAddedPlaceDTO> places = placeCooccurrenceService.getAlsoAdded(id, size);
+        return ResponseEntity.ok(places);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SmallBlock> getSmallBlockById(@PathVariable Long id) {
         SmallBlock smallBlock = smallBlockService.getSmallBlockById(id);
@@ -1,14 +1,15 @@
 package com.travelock.server.controller;
 
-import com.travelock.server.domain.BigBlock;
-import com.travelock.server.domain.State;
+import com.travelock.server.dto.BigBlockDTO;
+import com.travelock.server.dto.StateDTO;
 import com.travelock.server.service.StateService;
+import com.travelock.server.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -25,17 +26,27 @@ public class StateController {
     // -> 그 시/도에 맞는 도시 리스트 노출 (getCitiesByStates)
 
 
-    // 시/도 목록 조회하는 메서드
+    // 시/도 목록 조회하는 메서드 (내용이 같으면 304)
     @GetMapping("/list")
-    public List<State> getAllStates() {
+    public ResponseEntity<List<StateDTO>> getAllStates(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("모든 시/도 목록 조회 호출 - ");
-        return stateService.getAllStates();
+        String eTag = stateService.getAllStatesETag();
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(stateService.getAllStates());
     }
 
-    // 특정 시/도의 시/군/구 조회하는 메서드
+    // 특정 시/도의 시/군/구 조회하는 메서드 (내용이 같으면 304)
     @GetMapping("/{stateCode}/cities")
-    public List<BigBlock> getCitiesByState(@PathVariable String stateCode) {
-        return stateService.getCitiesByState(stateCode);
+    public ResponseEntity<List<BigBlockDTO>> getCitiesByState(@PathVariable String stateCode,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = stateService.getCitiesByStateETag(stateCode);
+        if (ETagUtil.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(stateService.getCitiesByState(stateCode));
     }
 
 }
@@ -7,15 +7,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_daily_block_connect_order", columnList = "daily_course_id, block_num"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class DailyBlockConnect {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_block_connect_seq_generator")
+    @SequenceGenerator(name = "daily_block_connect_seq_generator", sequenceName = "daily_block_connect_seq", allocationSize = 50)
     private Long dailyBlockConnectId;
 
-    @Column(columnDefinition = "INT NOT NULL COMMENT '블록 순서(N번째)'")
+    // 간격을 둔 정렬 키 (1024, 2048, ...), N번째 위치는 조회시 순서로 계산 - GapOrdering
+    @Column(columnDefinition = "INT NOT NULL COMMENT '블록 정렬 키'")
     private Integer blockNum;
 
     // Daily Course 여러개와 Full Block 여러개가 존재
@@ -29,4 +32,10 @@ public class DailyBlockConnect {
     @ManyToOne
     @JoinColumn(name = "full_block_id", nullable = false)
     private FullBlock fullBlock;
+
+    public void createNewConnect(DailyCourse dailyCourse, FullBlock fullBlock, Integer blockNum){
+        this.dailyCourse = dailyCourse;
+        this.fullBlock = fullBlock;
+        this.blockNum = blockNum;
+    }
 }
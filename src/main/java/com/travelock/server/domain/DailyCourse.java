@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.io.Serializable;
 import java.util.List;
@@ -14,19 +15,29 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 public class DailyCourse implements Serializable {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_course_seq_generator")
+    @SequenceGenerator(name = "daily_course_seq_generator", sequenceName = "daily_course_seq", allocationSize = 50)
     private Long dailyCourseId;
 
 //    전체<->일일 일정간 연결객체가 생기면서 필요없을듯
 //    @Column(columnDefinition = "INT COMMENT '일자 정보(N일차)'")
 //    private Integer dayNum;
 
+    // 좋아요, 스크랩 수는 누적 값이라 버전 증가 대상에서 제외 (편집 충돌과 무관)
+    @OptimisticLock(excluded = true)
     @Column(columnDefinition="INT NOT NULL DEFAULT 0 COMMENT '좋아요 수'")
     private Integer favoriteCount;
 
+    @OptimisticLock(excluded = true)
     @Column(columnDefinition = "INT NOT NULL DEFAULT 0 COMMENT '스크랩 수'")
     private Integer scarpCount;
 
+    // 동시 편집 충돌 감지용 버전 (벌크 UPDATE는 직접 version + 1)
+    @Version
+    @Column(columnDefinition = "BIGINT NOT NULL DEFAULT 0 COMMENT '수정 버전'")
+    private Long version;
+
     // Daily Course : Member = N : 1
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
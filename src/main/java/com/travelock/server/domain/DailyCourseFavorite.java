@@ -6,12 +6,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_daily_course_favorite_member_course", columnNames = {"member_id", "daily_course_id"}))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 public class DailyCourseFavorite extends BaseTime{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_course_favorite_seq_generator")
+    @SequenceGenerator(name = "daily_course_favorite_seq_generator", sequenceName = "daily_course_favorite_seq", allocationSize = 50)
     private Long dailyCourseFavoriteId;
 
     @ManyToOne
@@ -6,12 +6,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_full_daily_connect_order", columnList = "full_course_id, daily_num"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class FullAndDailyCourseConnect {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "full_and_daily_course_connect_seq_generator")
+    @SequenceGenerator(name = "full_and_daily_course_connect_seq_generator", sequenceName = "full_and_daily_course_connect_seq", allocationSize = 50)
     private Long fullDailyCourseConnectId;
+
+    // 간격을 둔 정렬 키 (1024, 2048, ...) - GapOrdering
     private Integer dailyNum;
 
     // Full Course Connect : Full Block = N : 1
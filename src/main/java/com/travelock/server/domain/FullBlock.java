@@ -13,7 +13,9 @@ import java.util.List;
 @NoArgsConstructor
 public class FullBlock extends BaseTime{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT를 위해 시퀀스 사용 (50개씩 미리 할당)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "full_block_seq_generator")
+    @SequenceGenerator(name = "full_block_seq_generator", sequenceName = "full_block_seq", allocationSize = 50)
     private Long fullBlockId;
 
     // B,M,S Block은 Full Block 사용시 항상 사용됨 - FetchType.EAGER(default)
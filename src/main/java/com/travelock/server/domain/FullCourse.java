@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.io.Serializable;
 import java.util.List;
@@ -22,12 +23,20 @@ public class FullCourse implements Serializable {
     @Column(columnDefinition = "VARCHAR(100) NULL COMMENT '여행 타이틀'")
     private String title;
 
+    // 좋아요, 스크랩 수는 누적 값이라 버전 증가 대상에서 제외 (편집 충돌과 무관)
+    @OptimisticLock(excluded = true)
     @Column(columnDefinition="INT NOT NULL DEFAULT 0 COMMENT '좋아요 수'")
     private Integer favoriteCount;
 
+    @OptimisticLock(excluded = true)
     @Column(columnDefinition = "INT NOT NULL DEFAULT 0 COMMENT '스크랩 수'")
     private Integer scarpCount;
 
+    // 동시 편집 충돌 감지용 버전 (벌크 UPDATE는 직접 version + 1)
+    @Version
+    @Column(columnDefinition = "BIGINT NOT NULL DEFAULT 0 COMMENT '수정 버전'")
+    private Long version;
+
     @Column(columnDefinition = "VARCHAR(1) COMMENT '활성화 상태'")
     private String activeStatus;
 
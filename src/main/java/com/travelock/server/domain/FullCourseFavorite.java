@@ -6,12 +6,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_full_course_favorite_member_course", columnNames = {"member_id", "full_course_id"}))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 public class FullCourseFavorite extends BaseTime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "full_course_favorite_seq_generator")
+    @SequenceGenerator(name = "full_course_favorite_seq_generator", sequenceName = "full_course_favorite_seq", allocationSize = 50)
     private Long fullCourseFavoriteId;
 
     @ManyToOne
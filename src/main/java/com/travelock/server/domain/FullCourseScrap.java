@@ -6,12 +6,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_full_course_scrap_member_course", columnNames = {"member_id", "full_course_id"}))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 public class FullCourseScrap extends BaseTime{
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "full_course_scrap_seq_generator")
+    @SequenceGenerator(name = "full_course_scrap_seq_generator", sequenceName = "full_course_scrap_seq", allocationSize = 50)
     private Long fullCourseScrapId;
 
     @ManyToOne
@@ -20,7 +20,8 @@ public class MiddleBlock extends BaseTime {
     @Column(name = "category_code", nullable = false, unique = true, columnDefinition = "VARCHAR(10) COMMENT '카테고리 코드'")
     private String categoryCode;
 
-    @Column(name = "category_name", null
+    @Column(name = "category_name", nullable = false, columnDefinition = "VARCHAR(50) COMMENT '카테고리 이름'")
+    private String categoryName;
 
     // 미들 1 스몰 N
     @OneToMany(mappedBy = "middleBlock")
@@ -15,22 +15,10 @@ import java.util.List;
 @NoArgsConstructor
 public class SmallBlock {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "small_block_seq_generator")
+    @SequenceGenerator(name = "small_block_seq_generator", sequenceName = "small_block_seq", allocationSize = 50)
     private Long smallBlockId;
 
-    @Column(columnDefinition = "VARCHAR(50) COMMENT 'API에서 받은 고유값'")
-    private String placeId;
-
-    @Column(columnDefinition = "VARCHAR(100) COMMENT '경도값'")
-    private String mapX;
-    @Column(columnDefinition = "VARCHAR(100) COMMENT '위도값'")
-    private String mapY;
-    @Column(columnDefinition = "VARCHAR(255) COMMENT '카카오 Place 링크 주소'")
-    private String linkURL;
-
-    @Column(columnDefinition = "INT COMMENT '일정에 추가된(참조된) 수'")
-    private Integer referenceCount;
-
     // Small Block : Middle Block = N : 1
     // 이 말은 즉, 여러개의 스몰블록이 하나의 미들블록을 참조할 수 있다는 것.
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,7 +26,8 @@ public class SmallBlock {
     @JsonBackReference
     private MiddleBlock middleBlock;
 
-    @Column(columnDefinition = "VARCHAR(100) COMMENT '장소 ID'")
+    // 검색 결과 upsert(ON DUPLICATE KEY UPDATE)의 기준 키
+    @Column(unique = true, columnDefinition = "VARCHAR(100) COMMENT '장소 ID'")
     private String placeId;
 
     @Column(columnDefinition = "VARCHAR(29) COMMENT '장소 이름'")
@@ -72,6 +61,15 @@ public class SmallBlock {
         this.referenceCount = 1;
     }
 
+    // 일정 저장시 처음 사용되는 장소로 생성 (참조 수는 저장 후 버퍼로 반영)
+    public void createNewSmallBlock(String mapX, String mapY, String placeId, MiddleBlock middleBlock) {
+        this.middleBlock = middleBlock;
+        this.placeId = placeId;
+        this.mapX = mapX;
+        this.mapY = mapY;
+        this.referenceCount = 0;
+    }
+
     // 레퍼 카운트 1씩 증가
     public void incrementReferenceCount() {
         this.referenceCount++;
@@ -0,0 +1,29 @@
+package com.travelock.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 함께 추가된 장소 (count : 같은 일일일정에 함께 추가된 수)
+@Getter
+@AllArgsConstructor
+public class AlsoAddedPlaceDTO {
+    private final Long smallBlockId;
+    private final String placeId;
+    private final String placeName;
+    private final String mapX;
+    private final String mapY;
+    private final String url;
+    private final Integer count;
+
+    public static AlsoAddedPlaceDTO of(PlaceRankDTO place, int count) {
+        return new AlsoAddedPlaceDTO(
+                place.getSmallBlockId(),
+                place.getPlaceId(),
+                place.getPlaceName(),
+                place.getMapX(),
+                place.getMapY(),
+                place.getUrl(),
+                count
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.travelock.server.dto;
+
+import com.travelock.server.domain.BigBlock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 시/군/구 (읽기 전용, 사전에 보관되므로 불변)
+@Getter
+@AllArgsConstructor
+public class BigBlockDTO {
+    private final Long bigBlockId;
+    private final String cityCode;
+    private final String cityName;
+    private final String stateCode;
+    private final String stateName;
+
+    public static BigBlockDTO fromDomain(BigBlock bigBlock) {
+        return new BigBlockDTO(
+                bigBlock.getBigBlockId(),
+                bigBlock.getCityCode(),
+                bigBlock.getCityName(),
+                bigBlock.getState().getStateCode(),
+                bigBlock.getState().getStateName()
+        );
+    }
+}
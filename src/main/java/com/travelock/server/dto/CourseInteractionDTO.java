@@ -0,0 +1,15 @@
+package com.travelock.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 일정 목록의 좋아요/스크랩 여부 (courseIds 순서대로 '1' 했음, '0' 안함)
+@Getter
+@AllArgsConstructor
+public class CourseInteractionDTO {
+    private final List<Long> courseIds;
+    private final String favorited;
+    private final String scrapped;
+}
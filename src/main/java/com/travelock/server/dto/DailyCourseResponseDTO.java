@@ -20,6 +20,7 @@ public class DailyCourseResponseDTO {
     private String memberNickName;  // 생성한 멤버 닉네임 - JK
     private Integer favoriteCount;  // 좋아요 수
     private Integer scarpCount;     // 스크랩 수
+    private Long version;           // 수정 버전 (수정 요청시 그대로 전달)
     private List<FullBlockDTO> fullBlockList;
 
     public static DailyCourseResponseDTO fromDomainToResponseDTO(DailyCourse dailyCourse) {
@@ -39,6 +40,7 @@ public class DailyCourseResponseDTO {
                 dailyCourse.getMember().getNickName(),
                 dailyCourse.getFavoriteCount(),
                 dailyCourse.getScarpCount(),
+                dailyCourse.getVersion(),
                 fullBlockList
         );
     }
@@ -0,0 +1,17 @@
+package com.travelock.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FullCourseCardPageDTO {
+    private List<FullCourseCardDTO> fullCourses;
+    private Long nextCursor; // 다음 페이지 요청시 cursor 값 (마지막 fullCourseId)
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
@@ -14,4 +14,5 @@ public class FullCourseRequestDTO {
     private String title; // 전체 일정 타이틀
     private Integer favoriteCount; // 좋아요 수
     private Integer scarpCount; // 스크랩 수
+    private Long version; // 조회시 받은 수정 버전 (제목 수정시 필수, 다르면 409)
 }
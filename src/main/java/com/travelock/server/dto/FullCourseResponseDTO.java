@@ -20,6 +20,7 @@ public class FullCourseResponseDTO {
     private String title; // 전체 일정 타이틀
     private Integer favoriteCount; // 좋아요 수
     private Integer scarpCount; // 스크랩 수
+    private Long version; // 수정 버전 (수정 요청시 그대로 전달)
     private List<DailyCourseResponseDTO> dailyCourses;
 
     public static FullCourseResponseDTO fromDomainToResponseDTO(FullCourse fullCourse) {
@@ -39,6 +40,7 @@ public class FullCourseResponseDTO {
                 fullCourse.getTitle(),
                 fullCourse.getFavoriteCount(),
                 fullCourse.getScarpCount(),
+                fullCourse.getVersion(),
                 dailyCourseList
         );
     }
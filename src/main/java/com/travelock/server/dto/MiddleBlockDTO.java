@@ -0,0 +1,22 @@
+package com.travelock.server.dto;
+
+import com.travelock.server.domain.MiddleBlock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 카테고리 (읽기 전용, 사전에 보관되므로 불변)
+@Getter
+@AllArgsConstructor
+public class MiddleBlockDTO {
+    private final Long middleBlockId;
+    private final String categoryCode;
+    private final String categoryName;
+
+    public static MiddleBlockDTO fromDomain(MiddleBlock middleBlock) {
+        return new MiddleBlockDTO(
+                middleBlock.getMiddleBlockId(),
+                middleBlock.getCategoryCode(),
+                middleBlock.getCategoryName()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.travelock.server.dto;
+
+import com.travelock.server.domain.SmallBlock;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 인기 장소 (referenceCount : 랭킹 점수, 일정에 추가된 수)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceRankDTO {
+    private Long smallBlockId;
+    private String placeId;
+    private String placeName;
+    private String mapX;
+    private String mapY;
+    private String url;
+    private Integer referenceCount;
+
+    public static PlaceRankDTO fromDomain(SmallBlock smallBlock) {
+        return new PlaceRankDTO(
+                smallBlock.getSmallBlockId(),
+                smallBlock.getPlaceId(),
+                smallBlock.getPlaceName(),
+                smallBlock.getMapX(),
+                smallBlock.getMapY(),
+                smallBlock.getUrl(),
+                smallBlock.getReferenceCount()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.travelock.server.dto;
+
+import com.travelock.server.domain.State;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 시/도 (읽기 전용, 사전에 보관되므로 불변)
+@Getter
+@AllArgsConstructor
+public class StateDTO {
+    private final Long stateId;
+    private final String stateCode;
+    private final String stateName;
+
+    public static StateDTO fromDomain(State state) {
+        return new StateDTO(state.getStateId(), state.getStateCode(), state.getStateName());
+    }
+}
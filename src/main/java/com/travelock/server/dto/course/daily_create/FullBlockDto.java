@@ -13,4 +13,5 @@ public class FullBlockDto {
     private Long bigBlockId;
     private Long middleBlockId;
     private SmallBlockDto smallBlockDto;
+    private Long fullBlockId; // 수정시 기존 블록 ID (새 블록은 null)
 }
@@ -1,12 +1,19 @@
 package com.travelock.server.dto.course.daily_modify;
 
+import com.travelock.server.dto.course.daily_create.FullBlockDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class DailyCourseModifyDto {
     private Long dailyCourseId;
+    private Long memberId;
+    private Long version; // 조회시 받은 수정 버전 (다르면 409)
+    // 수정 후 전체 블록 목록 (기존 블록은 fullBlockId 포함, 빠진 블록은 삭제)
+    private List<FullBlockDto> fullBlockDtoList;
 }
@@ -1,14 +1,17 @@
 package com.travelock.server.dto.course.full_create;
 
-
+import com.travelock.server.dto.course.daily_create.FullBlockDto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class DailyCourseDto {
     private Long dailyCourseId;
     private Integer dailyCourseNum;
+    private List<FullBlockDto> fullBlockDtoList; // 전체일정 한번에 저장시 일자별 블록
 }
@@ -12,6 +12,7 @@ import java.util.List;
 @NoArgsConstructor
 public class FullCourseCreateDto {
     private Long fullCourseId;
+    private Long memberId;
     private String title;
     private List<DailyCourseDto> dailyCourseDtoList;
 }
@@ -1,11 +1,16 @@
 package com.travelock.server.exception;
 import com.travelock.server.exception.base_exceptions.*;
+import com.travelock.server.exception.course.CourseVersionConflictException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
@@ -36,6 +41,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
     }
 
+    /*409 동시 수정 충돌 (클라이언트가 다시 조회할 수 있도록 현재 버전 포함)*/
+    @ExceptionHandler(CourseVersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleCourseVersionConflictExceptions(CourseVersionConflictException e) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", e.getMessage());
+        body.put("currentVersion", e.getCurrentVersion());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    /*409 JPA 버전 충돌 (엔티티 변경 감지로 수정한 경우)*/
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleOptimisticLockingFailureExceptions(ObjectOptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("다른 사용자가 먼저 수정했습니다. 다시 조회 후 시도해주세요.");
+    }
+
     /*503 서비스 사용 불가*/
     @ExceptionHandler(ServiceUnavailableException.class)
     public ResponseEntity<String> handleServiceUnavailableExceptions(ServiceUnavailableException e) {
@@ -0,0 +1,14 @@
+package com.travelock.server.exception.course;
+
+import com.travelock.server.exception.base_exceptions.ValidationException;
+import lombok.Getter;
+
+@Getter
+public class CourseVersionConflictException extends ValidationException {
+    private final Long currentVersion;
+
+    public CourseVersionConflictException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,207 @@
+package com.travelock.server.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 일정 생성, 좋아요, 스크랩 POST 요청의 중복 처리 방지 (Idempotency-Key 헤더)
+ * - 처음 받은 키는 Redis에 처리중(PENDING)으로 선점 후 요청 처리, 성공(2xx) 응답을 TTL 동안 저장
+ * - 처리중 잠금은 요청이 끝날 때까지 lockSeconds / 3 마다 연장 (오래 걸리는 요청도 중복 처리되지 않음, 서버가 죽으면 lockSeconds 후 해제)
+ * - 같은 키로 다시 오면 DB를 거치지 않고 저장된 응답을 그대로 반환
+ * - 처리중인 키로 다시 오면 409, 실패 응답은 저장하지 않음 (같은 키로 재시도 가능)
+ * - 헤더가 없거나 Redis 장애시 기존처럼 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_BASE = "idempotency:";
+    private static final String PENDING = "PENDING";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    // 내가 선점한 처리중 잠금일 때만 ARGV[2]초로 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 내가 선점한 처리중 잠금일 때만 삭제 (만료 후 다른 요청이 선점한 키는 그대로)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${application.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${application.idempotency.lock-seconds:30}")
+    private long lockSeconds;
+
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !"POST".equals(request.getMethod())
+                || !(uri.startsWith("/api/course/full") || uri.startsWith("/api/course/daily"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key is too long");
+            return;
+        }
+
+        // 같은 키라도 다른 API(경로, 파라미터)면 별개 요청으로 취급
+        String redisKey = KEY_BASE + request.getRequestURI()
+                + (request.getQueryString() == null ? "" : "?" + request.getQueryString())
+                + ":" + idempotencyKey;
+
+        // 처리중 값은 요청마다 달라서 내 잠금인지 구분 가능
+        String pendingToken = PENDING + ":" + UUID.randomUUID();
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(redisKey, pendingToken, Duration.ofSeconds(lockSeconds));
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 확인 실패, 중복 검사 없이 처리 : {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            replay(redisKey, response);
+            return;
+        }
+
+        Duration renewInterval = Duration.ofSeconds(Math.max(1, lockSeconds / 3));
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(
+                () -> renew(redisKey, pendingToken), Instant.now().plus(renewInterval), renewInterval);
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            if (responseWrapper.getStatus() >= 200 && responseWrapper.getStatus() < 300) {
+                StoredResponse storedResponse = new StoredResponse(
+                        responseWrapper.getStatus(),
+                        responseWrapper.getContentType(),
+                        new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8));
+                stringRedisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(storedResponse), Duration.ofHours(ttlHours));
+                stored = true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 응답 저장 실패 : {}", e.getMessage());
+        } finally {
+            renewal.cancel(false);
+            if (!stored) {
+                release(redisKey, pendingToken);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    // 저장된 응답 재전송 (처리중이면 409)
+    private void replay(String redisKey, HttpServletResponse response) throws IOException {
+        String value;
+        try {
+            value = stringRedisTemplate.opsForValue().get(redisKey);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 응답 조회 실패 : {}", e.getMessage());
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "Idempotency-Key 확인 실패, 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        if (value == null || value.startsWith(PENDING)) {
+            writeError(response, HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 처리 중입니다.");
+            return;
+        }
+
+        StoredResponse storedResponse = objectMapper.readValue(value, StoredResponse.class);
+        log.info("Idempotency-Key 중복 요청, 저장된 응답 반환 : {}", redisKey);
+        response.setStatus(storedResponse.getStatus());
+        if (storedResponse.getContentType() != null) {
+            response.setContentType(storedResponse.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(storedResponse.getBody());
+    }
+
+    private void renew(String redisKey, String pendingToken) {
+        try {
+            stringRedisTemplate.execute(RENEW_SCRIPT, List.of(redisKey), pendingToken, String.valueOf(lockSeconds));
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 처리중 잠금 연장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void release(String redisKey, String pendingToken) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), pendingToken);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 해제 실패 (TTL 만료 후 재시도 가능) : {}", e.getMessage());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class StoredResponse {
+        private int status;
+        private String contentType;
+        private String body;
+    }
+}
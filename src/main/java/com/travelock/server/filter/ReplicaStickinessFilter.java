@@ -0,0 +1,84 @@
+package com.travelock.server.filter;
+
+import com.travelock.server.config.datasource.ReplicaDataSourceProperties;
+import com.travelock.server.config.datasource.ReplicaRoutingContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * 쓰기 요청 이후 일정 시간 동안 같은 클라이언트의 조회를 primary로 고정 (read-your-writes)
+ * - 쓰기 요청(GET, HEAD, OPTIONS 외)이 성공(2xx)하면 짧은 만료시간의 쿠키 발급
+ *   (응답 본문을 버퍼링해서 상태 코드 확인 후 쿠키 추가, 실패한 요청은 발급 안함)
+ * - 쿠키가 있는 요청은 readOnly 트랜잭션도 primary 사용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    public static final String STICKY_COOKIE = "RW-Primary";
+
+    private final ReplicaDataSourceProperties replicaProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        boolean write = !isReadMethod(request.getMethod());
+
+        if (write || hasStickyCookie(request)) {
+            ReplicaRoutingContext.forcePrimary();
+        }
+
+        if (!write) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ReplicaRoutingContext.clear();
+            }
+            return;
+        }
+
+        // 쿠키는 응답이 커밋되기 전에 추가해야 하므로 본문을 버퍼링한 뒤 성공한 경우에만 발급
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            if (responseWrapper.getStatus() >= 200 && responseWrapper.getStatus() < 300) {
+                Cookie cookie = new Cookie(STICKY_COOKIE, "1");
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge(replicaProperties.getStickySeconds());
+                response.addCookie(cookie);
+            }
+        } finally {
+            ReplicaRoutingContext.clear();
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isReadMethod(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private boolean hasStickyCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (STICKY_COOKIE.equals(cookie.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.travelock.server.repository;
+
+import com.travelock.server.dto.DailyCourseResponseDTO;
+import com.travelock.server.dto.FullBlockDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface DailyCourseCustomRepository {
+    DailyCourseResponseDTO findDailyCourseDetail(Long dailyCourseId);
+    Map<Long, DailyCourseResponseDTO> findDailyCourseDetails(Collection<Long> dailyCourseIds);
+    Map<Long, List<FullBlockDTO>> findFullBlocksByDailyCourseIds(Collection<Long> dailyCourseIds);
+}
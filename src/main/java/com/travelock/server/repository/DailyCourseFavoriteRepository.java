@@ -1,8 +1,20 @@
 package com.travelock.server.repository;
 
 import com.travelock.server.domain.DailyCourseFavorite;
-import com.travelock.server.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DailyCourseFavoriteRepository extends JpaRepository<DailyCourseFavorite, Long> {
+
+    // 사용자, 일정 존재(FK)와 중복(유니크 키)을 DB가 INSERT 한번으로 확인, 저장 안되면 0 반환
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO daily_course_favorite (daily_course_favorite_id, member_id, daily_course_id, created_date, last_modified_date) " +
+            "VALUES (NEXTVAL(daily_course_favorite_seq), :memberId, :dailyCourseId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("memberId") Long memberId, @Param("dailyCourseId") Long dailyCourseId);
+
+    boolean existsByMember_MemberIdAndDailyCourse_DailyCourseId(Long memberId, Long dailyCourseId);
 }
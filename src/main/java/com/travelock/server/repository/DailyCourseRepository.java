@@ -5,5 +5,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface DailyCourseRepository extends JpaRepository<DailyCourse, Long> {
+public interface DailyCourseRepository extends JpaRepository<DailyCourse, Long>, DailyCourseCustomRepository {
 }
@@ -0,0 +1,156 @@
+package com.travelock.server.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.*;
+import com.travelock.server.dto.DailyCourseResponseDTO;
+import com.travelock.server.dto.FullBlockDTO;
+import com.travelock.server.dto.SmallBlockResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class DailyCourseRepositoryImpl implements DailyCourseCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    @Transactional(readOnly = true)
+    public DailyCourseResponseDTO findDailyCourseDetail(Long dailyCourseId) {
+        return findDailyCourseDetails(List.of(dailyCourseId)).get(dailyCourseId);
+    }
+
+    /**
+     * 일일일정 상세 조회 (응답 DTO 전용 조회)
+     * - 일일일정 수, 블록 수와 관계없이 쿼리 2번으로 응답 생성 (일정+멤버 1번, 블록 전체 1번)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, DailyCourseResponseDTO> findDailyCourseDetails(Collection<Long> dailyCourseIds) {
+        Map<Long, DailyCourseResponseDTO> result = new HashMap<>();
+        if (dailyCourseIds == null || dailyCourseIds.isEmpty()) {
+            return result;
+        }
+
+        QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+        QMember qMember = QMember.member;
+
+        // 일일일정 + 생성 멤버 ----------------------------------------------------------------------DB SELECT (1)
+        List<Tuple> courses = queryFactory
+                .select(qDailyCourse.dailyCourseId,
+                        qMember.memberId,
+                        qMember.nickName,
+                        qDailyCourse.favoriteCount,
+                        qDailyCourse.scarpCount,
+                        qDailyCourse.version)
+                .from(qDailyCourse)
+                .join(qDailyCourse.member, qMember)
+                .where(qDailyCourse.dailyCourseId.in(dailyCourseIds))
+                .fetch();
+
+        if (courses.isEmpty()) {
+            return result;
+        }
+
+        // 블록 목록 ---------------------------------------------------------------------------------DB SELECT (1)
+        List<Long> foundIds = new ArrayList<>();
+        for (Tuple course : courses) {
+            foundIds.add(course.get(qDailyCourse.dailyCourseId));
+        }
+        Map<Long, List<FullBlockDTO>> fullBlocks = findFullBlocksByDailyCourseIds(foundIds);
+
+        for (Tuple course : courses) {
+            Long dailyCourseId = course.get(qDailyCourse.dailyCourseId);
+            result.put(dailyCourseId, new DailyCourseResponseDTO(
+                    dailyCourseId,
+                    null,
+                    course.get(qMember.memberId),
+                    course.get(qMember.nickName),
+                    course.get(qDailyCourse.favoriteCount),
+                    course.get(qDailyCourse.scarpCount),
+                    course.get(qDailyCourse.version),
+                    fullBlocks.getOrDefault(dailyCourseId, new ArrayList<>())
+            ));
+        }
+
+        return result;
+    }
+
+    /**
+     * 일일일정 ID 목록에 속한 블록을 한번에 조회
+     * - DailyBlockConnect -> FullBlock -> BigBlock -> State, MiddleBlock, SmallBlock 을 조인해서 필요한 컬럼만 가져옴
+     * - 반환 Map의 블록 리스트는 blockNum(정렬 키) 순서, (daily_course_id, block_num) 인덱스 사용
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<FullBlockDTO>> findFullBlocksByDailyCourseIds(Collection<Long> dailyCourseIds) {
+        Map<Long, List<FullBlockDTO>> result = new HashMap<>();
+        if (dailyCourseIds == null || dailyCourseIds.isEmpty()) {
+            return result;
+        }
+
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+        QFullBlock qFullBlock = QFullBlock.fullBlock;
+        QBigBlock qBigBlock = QBigBlock.bigBlock;
+        QState qState = QState.state;
+        QMiddleBlock qMiddleBlock = QMiddleBlock.middleBlock;
+        QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
+
+        List<Tuple> rows = queryFactory
+                .select(qDailyBlockConnect.dailyCourse.dailyCourseId,
+                        qDailyBlockConnect.blockNum,
+                        qFullBlock.fullBlockId,
+                        qState.stateCode,
+                        qState.stateName,
+                        qMiddleBlock.categoryCode,
+                        qMiddleBlock.categoryName,
+                        qSmallBlock.smallBlockId,
+                        qSmallBlock.placeId,
+                        qSmallBlock.mapX,
+                        qSmallBlock.mapY,
+                        qSmallBlock.referenceCount)
+                .from(qDailyBlockConnect)
+                .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                .join(qFullBlock.bigBlock, qBigBlock)
+                .join(qBigBlock.state, qState)
+                .join(qFullBlock.middleBlock, qMiddleBlock)
+                .leftJoin(qFullBlock.smallBlock, qSmallBlock)
+                .where(qDailyBlockConnect.dailyCourse.dailyCourseId.in(dailyCourseIds))
+                .orderBy(qDailyBlockConnect.dailyCourse.dailyCourseId.asc(), qDailyBlockConnect.blockNum.asc())
+                .fetch();
+
+        for (Tuple row : rows) {
+            SmallBlockResponseDTO smallBlock = null;
+            if (row.get(qSmallBlock.smallBlockId) != null) {
+                smallBlock = new SmallBlockResponseDTO(
+                        row.get(qSmallBlock.smallBlockId),
+                        row.get(qSmallBlock.placeId),
+                        row.get(qSmallBlock.mapX),
+                        row.get(qSmallBlock.mapY),
+                        row.get(qSmallBlock.referenceCount)
+                );
+            }
+
+            // 저장된 blockNum은 간격을 둔 정렬 키라 응답에는 N번째(1부터) 위치로 변환
+            List<FullBlockDTO> blocks = result.computeIfAbsent(row.get(qDailyBlockConnect.dailyCourse.dailyCourseId), id -> new ArrayList<>());
+
+            FullBlockDTO fullBlock = new FullBlockDTO(
+                    row.get(qFullBlock.fullBlockId),
+                    blocks.size() + 1,
+                    row.get(qState.stateCode),
+                    row.get(qState.stateName),
+                    row.get(qMiddleBlock.categoryCode),
+                    row.get(qMiddleBlock.categoryName),
+                    smallBlock
+            );
+
+            blocks.add(fullBlock);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package com.travelock.server.repository;
+
+import com.travelock.server.dto.FullCourseResponseDTO;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface FullCourseCustomRepository {
+    FullCourseResponseDTO findFullCourseDetail(Long fullCourseId);
+    Map<Long, FullCourseResponseDTO> findFullCourseDetails(Collection<Long> fullCourseIds);
+}
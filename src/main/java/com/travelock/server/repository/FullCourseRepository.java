@@ -5,5 +5,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface FullCourseRepository extends JpaRepository<FullCourse, Long> {
+public interface FullCourseRepository extends JpaRepository<FullCourse, Long>, FullCourseCustomRepository {
 }
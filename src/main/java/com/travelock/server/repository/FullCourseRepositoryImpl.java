@@ -0,0 +1,136 @@
+package com.travelock.server.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.QDailyCourse;
+import com.travelock.server.domain.QFullAndDailyCourseConnect;
+import com.travelock.server.domain.QFullCourse;
+import com.travelock.server.domain.QMember;
+import com.travelock.server.dto.DailyCourseResponseDTO;
+import com.travelock.server.dto.FullBlockDTO;
+import com.travelock.server.dto.FullCourseResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class FullCourseRepositoryImpl implements FullCourseCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final DailyCourseRepository dailyCourseRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public FullCourseResponseDTO findFullCourseDetail(Long fullCourseId) {
+        return findFullCourseDetails(List.of(fullCourseId)).get(fullCourseId);
+    }
+
+    /**
+     * 전체일정 집계 조회
+     * - 단계별로 부모 ID IN 쿼리 1번씩 수행 후 메모리에서 트리 조립
+     * - 전체일정(1) -> 일일일정 연결(1) -> 블록(1), 여행 일수/블록 수와 관계없이 쿼리 3번
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, FullCourseResponseDTO> findFullCourseDetails(Collection<Long> fullCourseIds) {
+        Map<Long, FullCourseResponseDTO> result = new HashMap<>();
+        if (fullCourseIds == null || fullCourseIds.isEmpty()) {
+            return result;
+        }
+
+        QFullCourse qFullCourse = QFullCourse.fullCourse;
+        QMember qMember = QMember.member;
+
+        // 전체일정 + 생성 멤버 ----------------------------------------------------------------------DB SELECT (1)
+        List<Tuple> courses = queryFactory
+                .select(qFullCourse.fullCourseId,
+                        qMember.memberId,
+                        qMember.nickName,
+                        qFullCourse.title,
+                        qFullCourse.favoriteCount,
+                        qFullCourse.scarpCount,
+                        qFullCourse.version)
+                .from(qFullCourse)
+                .join(qFullCourse.member, qMember)
+                .where(qFullCourse.fullCourseId.in(fullCourseIds))
+                .fetch();
+
+        if (courses.isEmpty()) {
+            return result;
+        }
+
+        for (Tuple course : courses) {
+            result.put(course.get(qFullCourse.fullCourseId), new FullCourseResponseDTO(
+                    course.get(qFullCourse.fullCourseId),
+                    course.get(qMember.memberId),
+                    course.get(qMember.nickName),
+                    course.get(qFullCourse.title),
+                    course.get(qFullCourse.favoriteCount),
+                    course.get(qFullCourse.scarpCount),
+                    course.get(qFullCourse.version),
+                    new ArrayList<>()
+            ));
+        }
+
+        QFullAndDailyCourseConnect qConnect = QFullAndDailyCourseConnect.fullAndDailyCourseConnect;
+        QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+        QMember qDailyMember = new QMember("dailyMember");
+
+        // 일일일정 연결 + 일일일정 + 생성 멤버 -------------------------------------------------------DB SELECT (1)
+        List<Tuple> connects = queryFactory
+                .select(qConnect.fullCourse.fullCourseId,
+                        qDailyCourse.dailyCourseId,
+                        qDailyMember.memberId,
+                        qDailyMember.nickName,
+                        qDailyCourse.favoriteCount,
+                        qDailyCourse.scarpCount,
+                        qDailyCourse.version)
+                .from(qConnect)
+                .join(qConnect.dailyCourse, qDailyCourse)
+                .join(qDailyCourse.member, qDailyMember)
+                .where(qConnect.fullCourse.fullCourseId.in(result.keySet()))
+                .orderBy(qConnect.fullCourse.fullCourseId.asc(), qConnect.dailyNum.asc())
+                .fetch();
+
+        List<DailyCourseResponseDTO> dailyCourses = new ArrayList<>();
+        for (Tuple connect : connects) {
+            Long fullCourseId = connect.get(qConnect.fullCourse.fullCourseId);
+
+            DailyCourseResponseDTO dailyCourse = new DailyCourseResponseDTO(
+                    connect.get(qDailyCourse.dailyCourseId),
+                    fullCourseId,
+                    connect.get(qDailyMember.memberId),
+                    connect.get(qDailyMember.nickName),
+                    connect.get(qDailyCourse.favoriteCount),
+                    connect.get(qDailyCourse.scarpCount),
+                    connect.get(qDailyCourse.version),
+                    new ArrayList<>()
+            );
+
+            result.get(fullCourseId).getDailyCourses().add(dailyCourse);
+            dailyCourses.add(dailyCourse);
+        }
+
+        if (dailyCourses.isEmpty()) {
+            return result;
+        }
+
+        // 블록 -------------------------------------------------------------------------------------DB SELECT (1)
+        Set<Long> dailyCourseIds = new HashSet<>();
+        for (DailyCourseResponseDTO dailyCourse : dailyCourses) {
+            dailyCourseIds.add(dailyCourse.getDailyCourseId());
+        }
+        Map<Long, List<FullBlockDTO>> fullBlocks = dailyCourseRepository.findFullBlocksByDailyCourseIds(dailyCourseIds);
+
+        // 같은 일일일정이 여러 전체일정에 연결될 수 있으므로 리스트는 복사해서 할당
+        for (DailyCourseResponseDTO dailyCourse : dailyCourses) {
+            dailyCourse.setFullBlockList(new ArrayList<>(
+                    fullBlocks.getOrDefault(dailyCourse.getDailyCourseId(), Collections.emptyList())));
+        }
+
+        return result;
+    }
+}
@@ -1,8 +1,20 @@
 package com.travelock.server.repository;
 
 import com.travelock.server.domain.FullCourseScrap;
-import com.travelock.server.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface FullCourseScrapRepository extends JpaRepository<FullCourseScrap, Long> {
+
+    // 사용자, 일정 존재(FK)와 중복(유니크 키)을 DB가 INSERT 한번으로 확인, 저장 안되면 0 반환
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO full_course_scrap (full_course_scrap_id, member_id, full_course_id, created_date, last_modified_date) " +
+            "VALUES (NEXTVAL(full_course_scrap_seq), :memberId, :fullCourseId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("memberId") Long memberId, @Param("fullCourseId") Long fullCourseId);
+
+    boolean existsByMember_MemberIdAndFullCourse_FullCourseId(Long memberId, Long fullCourseId);
 }
@@ -2,9 +2,18 @@ package com.travelock.server.repository;
 
 import com.travelock.server.domain.SmallBlock;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface SmallBlockCustomRepository {
     Optional<SmallBlock> findByPlaceId(String placeId);
 
+    Map<String, SmallBlock> findByPlaceIds(Collection<String> placeIds);
+
+    void bulkUpsert(List<SmallBlock> smallBlocks);
+
+    Map<String, Long> insertIfAbsent(List<SmallBlock> smallBlocks);
+
 }
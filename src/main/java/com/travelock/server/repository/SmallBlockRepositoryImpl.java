@@ -3,16 +3,38 @@ package com.travelock.server.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.travelock.server.domain.QSmallBlock;
 import com.travelock.server.domain.SmallBlock;
+import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.*;
 
 @Repository
 @RequiredArgsConstructor
 public class SmallBlockRepositoryImpl implements SmallBlockCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    // place_id 유니크 키 기준 upsert (이미 있는 장소는 장소 정보만 갱신)
+    // 검색은 일정에 추가된 것이 아니므로 참조 수는 새 장소면 0, 있는 장소면 그대로
+    private static final String UPSERT_SQL =
+            "INSERT INTO small_block (small_block_id, place_id, place_name, map_x, map_y, url, reference_count, middle_block_id) " +
+            "VALUES (NEXTVAL(small_block_seq), ?, ?, ?, ?, ?, 0, ?) " +
+            "ON DUPLICATE KEY UPDATE place_name = VALUES(place_name), map_x = VALUES(map_x), map_y = VALUES(map_y), url = VALUES(url)";
+
+    // 일정 저장시 처음 쓰이는 장소 (동시에 같은 장소를 저장해도 유니크 키 위반 없이 먼저 들어간 행 사용)
+    // 참조 수는 0으로 넣고 SmallBlockReferenceCountBuffer로 반영
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO small_block (small_block_id, place_id, map_x, map_y, reference_count, middle_block_id) " +
+            "VALUES (NEXTVAL(small_block_seq), ?, ?, ?, 0, ?) " +
+            "ON DUPLICATE KEY UPDATE small_block_id = small_block_id";
+
+    // 잠금 읽기라서 다른 트랜잭션이 먼저 커밋한 행도 보임 (일반 SELECT는 트랜잭션 시작 시점 스냅샷)
+    private static final String SELECT_IDS_SQL =
+            "SELECT small_block_id, place_id FROM small_block WHERE place_id IN (%s) LOCK IN SHARE MODE";
 
     @Override
     public Optional<SmallBlock> findByPlaceId(String placeId) {
@@ -25,18 +47,76 @@ public class SmallBlockRepositoryImpl implements SmallBlockCustomRepository {
         return Optional.ofNullable(result);
     }
 
-        public SmallBlock getSmallBlock(String placeId) {
-        QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
+    // placeId 목록으로 한번에 조회 (placeId -> SmallBlock, 없는 placeId는 포함되지 않음)
+    @Override
+    public Map<String, SmallBlock> findByPlaceIds(Collection<String> placeIds) {
+        if (placeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        QSmallBlock smallBlock = QSmallBlock.smallBlock;
 
-        SmallBlock smallblock = queryFactory
+        List<SmallBlock> result = queryFactory
                 .selectFrom(smallBlock)
+                .where(smallBlock.placeId.in(placeIds))
+                .fetch();
+
+        Map<String, SmallBlock> smallBlockMap = new HashMap<>();
+        for (SmallBlock block : result) {
+            smallBlockMap.put(block.getPlaceId(), block);
+        }
+        return smallBlockMap;
+    }
+
+    // 검색 결과 한 페이지를 JDBC 배치 1번으로 저장 (영속성 컨텍스트를 거치지 않음)
+    @Override
+    public void bulkUpsert(List<SmallBlock> smallBlocks) {
+        if (smallBlocks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, smallBlocks, smallBlocks.size(), (ps, smallBlock) -> {
+            ps.setString(1, smallBlock.getPlaceId());
+            ps.setString(2, smallBlock.getPlaceName());
+            ps.setString(3, smallBlock.getMapX());
+            ps.setString(4, smallBlock.getMapY());
+            ps.setString(5, smallBlock.getUrl());
+            ps.setLong(6, smallBlock.getMiddleBlock().getMiddleBlockId());
+        });
+    }
+
+    // 없는 장소만 JDBC 배치 1번으로 저장 후 ID 조회 (placeId -> smallBlockId)
+    @Override
+    public Map<String, Long> insertIfAbsent(List<SmallBlock> smallBlocks) {
+        Map<String, Long> ids = new HashMap<>();
+        if (smallBlocks.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, smallBlocks, smallBlocks.size(), (ps, smallBlock) -> {
+            ps.setString(1, smallBlock.getPlaceId());
+            ps.setString(2, smallBlock.getMapX());
+            ps.setString(3, smallBlock.getMapY());
+            ps.setLong(4, smallBlock.getMiddleBlock().getMiddleBlockId());
+        });
+
+        String placeholders = String.join(", ", Collections.nCopies(smallBlocks.size(), "?"));
+        Object[] placeIds = smallBlocks.stream().map(SmallBlock::getPlaceId).toArray();
+        jdbcTemplate.query(String.format(SELECT_IDS_SQL, placeholders),
+                (RowCallbackHandler) rs -> ids.put(rs.getString("place_id"), rs.getLong("small_block_id")),
+                placeIds);
+        return ids;
+    }
+
+    public SmallBlock getSmallBlock(String placeId) {
+        QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
+
+        SmallBlock smallBlock = queryFactory
+                .selectFrom(qSmallBlock)
                 .where(qSmallBlock.placeId.eq(placeId))
                 .fetchOne();
-        if(smallBlock == null){
+        if (smallBlock == null) {
             throw new ResourceNotFoundException("SmallBlock not found.");
         }
-            
-        return smallblock;
+
+        return smallBlock;
     }
 
 }
@@ -1,9 +1,7 @@
 package com.travelock.server.service;
 
-import com.travelock.server.domain.BigBlock;
-import com.travelock.server.domain.State;
-import com.travelock.server.repository.BigBlockRepository;
-import com.travelock.server.repository.StateRepository;
+import com.travelock.server.dto.BigBlockDTO;
+import com.travelock.server.service.cache.ReferenceDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,28 +11,20 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class BigBlockService {
 
-    private final BigBlockRepository bigBlockRepository;
-    private final StateRepository stateRepository;
+    // 시드 데이터라 DB 대신 사전에서 조회
+    private final ReferenceDictionary referenceDictionary;
 
     // 빅블럭 조회 메서드
-    public BigBlock getBigBlock(String stateCode, String cityCode) {
+    public BigBlockDTO getBigBlock(String stateCode, String cityCode) {
         log.info("getBigBlock 호출, stateCode={}, cityCode={}", stateCode, cityCode);
 
-        // stateCode로 State 먼저 조회
-        State state = stateRepository.findByStateCode(stateCode);
-        if (state != null) {
-            BigBlock bigBlock = bigBlockRepository.findByStateAndCityCode(state, cityCode);
-            if (bigBlock != null) {
-                log.info("BigBlock 반환, ID: {}", bigBlock.getBigBlockId());
-                return bigBlock;
-            } else {
-                log.warn("BigBlock을 찾을 수 없음, stateCode={}, cityCode={}", stateCode, cityCode);
-                return null;
-            }
+        BigBlockDTO bigBlock = referenceDictionary.getBigBlock(stateCode, cityCode).orElse(null);
+        if (bigBlock != null) {
+            log.info("BigBlock 반환, ID: {}", bigBlock.getBigBlockId());
         } else {
-            log.warn("State를 찾을 수 없음, stateCoed={}", stateCode);
-            return null;
+            log.warn("BigBlock을 찾을 수 없음, stateCode={}, cityCode={}", stateCode, cityCode);
         }
+        return bigBlock;
     }
 
-}
\ No newline at end of file
+}
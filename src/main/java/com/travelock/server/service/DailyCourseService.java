@@ -1,42 +1,72 @@
 package com.travelock.server.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.config.datasource.ReplicaRoutingContext;
 import com.travelock.server.domain.*;
+import com.travelock.server.dto.DailyCourseResponseDTO;
 import com.travelock.server.dto.course.daily_create.DailyCourseCreateDto;
 import com.travelock.server.dto.course.daily_create.FullBlockDto;
-import com.travelock.server.dto.course.daily_create.SmallBlockDto;
+import com.travelock.server.dto.course.daily_modify.DailyCourseModifyDto;
 import com.travelock.server.exception.base_exceptions.BadRequestException;
 import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
 import com.travelock.server.exception.course.AddDailyCourseFavoriteException;
 import com.travelock.server.exception.course.AddDailyCourseScrapException;
-import com.travelock.server.exception.review.AddReviewException;
+import com.travelock.server.exception.course.CourseVersionConflictException;
 import com.travelock.server.repository.*;
+import com.travelock.server.service.cache.CourseCountBuffer;
+import com.travelock.server.service.cache.CourseInteractionCacheService;
+import com.travelock.server.service.cache.CourseRecommendService;
+import com.travelock.server.service.cache.CourseRegionRankingService;
+import com.travelock.server.service.cache.CourseSnapshotCacheService;
+import com.travelock.server.service.cache.PersonalRecommendService;
+import com.travelock.server.service.cache.PlaceCooccurrenceService;
+import com.travelock.server.service.cache.PlaceLeaderboardService.PlaceReference;
+import com.travelock.server.util.ETagUtil;
+import com.travelock.server.util.GapOrdering;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DailyCourseService {
     private final JPAQueryFactory query;
+    private final ObjectMapper objectMapper;
     private final DailyCourseRepository dailyCourseRepository;
     private final DailyCourseFavoriteRepository dailyCourseFavoriteRepository;
     private final DailyCourseScrapRepository dailyCourseScrapRepository;
     private final FullAndDailyCourseConnectRepository fullAndDailyCourseConnectRepository;
     private final FullBlockRepository fullBlockRepository;
+    private final DailyBlockConnectRepository dailyBlockConnectRepository;
+    private final FullBlockResolver fullBlockResolver;
+    private final CourseSnapshotCacheService courseSnapshotCacheService;
+    private final CourseCountBuffer courseCountBuffer;
+    private final CourseRecommendService courseRecommendService;
+    private final CourseRegionRankingService courseRegionRankingService;
+    private final PlaceCooccurrenceService placeCooccurrenceService;
+    private final PersonalRecommendService personalRecommendService;
+    private final CourseInteractionCacheService courseInteractionCacheService;
+
+    @Value("${application.course.max-batch-size:30}")
+    private int maxBatchSize;
 
 
     /**
      * 일자별 일정 조회 By DailyCourseId
      */
+    @Transactional(readOnly = true)
     public DailyCourse findDailyCourse(Long dailyCourseId) {
         QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
         DailyCourse dailyCourse = query
@@ -51,6 +81,100 @@ public class DailyCourseService {
         return dailyCourse;
     }
 
+    /**
+     * 일자별 일정 상세 조회 By DailyCourseId
+     * - Redis 스냅샷 우선 조회, 히트시 DB 조회 없음
+     * - 미스시 응답 DTO를 바로 조회 (블록 수와 관계없이 쿼리 2번) 후 스냅샷 저장
+     */
+    public DailyCourseResponseDTO getDailyCourseDetail(Long dailyCourseId) {
+        return getDailyCourseDetail(dailyCourseId, getDailyCourseVersion(dailyCourseId));
+    }
+
+    // 조회 전 버전을 먼저 읽어서, 조회 중 수정이 발생하면 이전 버전 키에 저장되도록 함
+    public DailyCourseResponseDTO getDailyCourseDetail(Long dailyCourseId, long version) {
+        DailyCourseResponseDTO dailyCourse = courseSnapshotCacheService.getDailyCourse(dailyCourseId, version);
+        if (dailyCourse != null) {
+            return dailyCourse;
+        }
+
+        // 스냅샷은 최대 TTL 동안 남으므로 복제 지연으로 이전 데이터가 새 버전 키에 저장되지 않도록 primary 조회
+        dailyCourse = ReplicaRoutingContext.onPrimary(() -> dailyCourseRepository.findDailyCourseDetail(dailyCourseId));
+
+        if (dailyCourse == null) {
+            throw new ResourceNotFoundException("Daily Course not found by ID("+dailyCourseId+")");
+        }
+
+        courseSnapshotCacheService.putDailyCourse(dailyCourseId, version, dailyCourse);
+        return dailyCourse;
+    }
+
+    /**
+     * 일자별 일정 여러개 조회 By DailyCourseId 목록
+     * - 스냅샷 MGET 후 캐시 미스만 단계별 IN 쿼리로 조회
+     * - 요청 순서대로 반환, 존재하지 않는 ID는 제외
+     */
+    public List<DailyCourseResponseDTO> getDailyCourseDetails(List<Long> dailyCourseIds) {
+        if (dailyCourseIds == null || dailyCourseIds.isEmpty()) {
+            throw new BadRequestException("dailyCourseIds is empty");
+        }
+
+        Set<Long> uniqueIds = new LinkedHashSet<>(dailyCourseIds);
+        if (uniqueIds.size() > maxBatchSize) {
+            throw new BadRequestException("Too many dailyCourseIds (max " + maxBatchSize + ")");
+        }
+
+        // 캐시 조회 -------------------------------------------------------------------------------REDIS MGET (2)
+        Map<Long, Long> versions = courseSnapshotCacheService.getDailyCourseVersions(uniqueIds);
+        Map<Long, DailyCourseResponseDTO> dailyCourses = new HashMap<>(courseSnapshotCacheService.getDailyCourses(versions));
+
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            if (!dailyCourses.containsKey(id)) {
+                missedIds.add(id);
+            }
+        }
+
+        // 캐시 미스만 DB 조회 ---------------------------------------------------------------------DB SELECT (IN)
+        if (!missedIds.isEmpty()) {
+            Map<Long, DailyCourseResponseDTO> loaded =
+                    ReplicaRoutingContext.onPrimary(() -> dailyCourseRepository.findDailyCourseDetails(missedIds));
+            loaded.forEach((id, dailyCourse) -> {
+                courseSnapshotCacheService.putDailyCourse(id, versions.get(id), dailyCourse);
+                dailyCourses.put(id, dailyCourse);
+            });
+        }
+
+        List<DailyCourseResponseDTO> result = new ArrayList<>();
+        for (Long id : dailyCourseIds) {
+            DailyCourseResponseDTO dailyCourse = dailyCourses.get(id);
+            if (dailyCourse != null) {
+                result.add(dailyCourse);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 일자별 일정 스냅샷 버전 (Redis 조회 1번)
+     */
+    public long getDailyCourseVersion(Long dailyCourseId) {
+        return courseSnapshotCacheService.getDailyCourseVersion(dailyCourseId);
+    }
+
+    /**
+     * 응답 본문 기준 ETag (직렬화한 응답의 SHA-256)
+     * - 실제로 내려주는 DTO로 계산하므로 스냅샷이 DB보다 늦더라도 본문과 ETag가 항상 일치
+     *   (스냅샷 버전 INCR 전, 실패 후 조회에서 새 ETag에 이전 본문이 묶여 304가 계속되지 않도록)
+     * - 버전, 좋아요/스크랩 수 외에 장소 참조 수, 닉네임 등 본문의 모든 값 반영
+     */
+    public String getDailyCourseETag(DailyCourseResponseDTO dailyCourse) {
+        try {
+            return ETagUtil.contentTag(objectMapper.writeValueAsString(dailyCourse));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize DailyCourseResponseDTO", e);
+        }
+    }
+
     /**
      * 일자별 일정 생성
      * - 프론트에서 일일일정 확정시 저장됨.
@@ -76,223 +200,446 @@ public class DailyCourseService {
 
         DailyCourse dailyCourse = new DailyCourse();
         QMember qMember = QMember.member;
-        QBigBlock qBigBlock = QBigBlock.bigBlock;
-        QMiddleBlock qMiddleBlock = QMiddleBlock.middleBlock;
-        QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
         QFullCourse qFullCourse = QFullCourse.fullCourse;
 
-        //Map으로 중복순회 방지
-        Map<Long, BigBlock> bigBlockMap = new HashMap<>();
-        Map<Long, MiddleBlock> middleBlockMap = new HashMap<>();
-        Map<String, SmallBlock> existingSmallBlockMap = new HashMap<>();
-
         List<FullBlockDto> fullBlockDtoList = createDto.getFullBlockDtoList();
-        List<Long> bigBlockIdList = new ArrayList<>();
-        List<Long> middleBlockIdList = new ArrayList<>();
-        List<String> smaillBlockPlaceIdList = new ArrayList<>();
-        List<FullBlock> fullBlocksToBatchSave = new ArrayList<>();
-
-        FullCourse fullCourse = new FullCourse();
-        Member member = new Member();
-
-        // bigBlockId와 middleBlockId, smallBlock의 placeId를 각각 리스트에 추가
-        for (FullBlockDto dto : fullBlockDtoList) {
-            bigBlockIdList.add(dto.getBigBlockId());
-            middleBlockIdList.add(dto.getMiddleBlockId());
-            smaillBlockPlaceIdList.add(dto.getSmallBlockDto().getPlaceId());
-        }
-
-        // @TODO SmallBlock이 새로 생성되는 경우엔 아래 쿼리로 조회 불가 | 테스트는 small Block 값 저장하고 수행 -> 쿼리수정
-        // BigBlock과 MiddleBlock, SmallBlock, FullCourse를 조회 --------------------------------------------- DB SELECT(한방쿼리로 필요한 데이터 모두 가져오기)
-        List<Tuple> list = query.select(qBigBlock, qMiddleBlock, qSmallBlock)
-                .from(qBigBlock)
-                .join(qMiddleBlock).on(qMiddleBlock.middleBlockId.in(middleBlockIdList))
-                .leftJoin(qSmallBlock).on(qSmallBlock.placeId.in(smaillBlockPlaceIdList)) // LEFT JOIN으로 smallBlock이 없으면 null
-                .where(qBigBlock.bigBlockId.in(bigBlockIdList))
-                .fetch();
 
-
-        if (list.isEmpty()) {
-            throw new ResourceNotFoundException("No matching data.");
+        // 작성자 확인 + 전체일정 버전 증가를 먼저 (전체일정 행 락) ------------------------------------------ DB UPDATE (1)
+        // 동시에 추가되는 일자가 앞 트랜잭션 커밋 후의 정렬 키를 읽어서 같은 키를 받지 않도록, 첫 조회보다 앞에서 수행
+        long locked = query.update(qFullCourse)
+                .set(qFullCourse.version, qFullCourse.version.add(1))
+                .where(qFullCourse.fullCourseId.eq(createDto.getFullCourseId())
+                        .and(qFullCourse.member.memberId.eq(createDto.getMemberId())))
+                .execute();
+        if (locked == 0) {
+            throw new ResourceNotFoundException("FullCourse not found.");
         }
 
-        Tuple firstTuple = list.get(0);
-        member = firstTuple.get(qMember);
-        fullCourse = firstTuple.get(qFullCourse);
-
-        if (member == null) {
-            throw new ResourceNotFoundException("Member not found.");
-        }
+        // 전체일정과 작성자 조회 -------------------------------------------------------------------------- DB SELECT (1)
+        FullCourse fullCourse = query.selectFrom(qFullCourse)
+                .join(qFullCourse.member, qMember).fetchJoin()
+                .where(qFullCourse.fullCourseId.eq(createDto.getFullCourseId())
+                        .and(qMember.memberId.eq(createDto.getMemberId())))
+                .fetchOne();
 
         if (fullCourse == null) {
             throw new ResourceNotFoundException("FullCourse not found.");
         }
+        Member member = fullCourse.getMember();
 
-        // 조회된 BigBlock과 MiddleBlock, 이미 존재하는 SmallBlock 객체를 리스트에 추가
-        for (Tuple tuple : list) {
+        // Big, Middle은 사전으로 검증, Small은 placeId로 1번 조회 후 없는 장소 생성 ------------------------ DB SELECT (1)
+        List<FullBlock> fullBlocksToBatchSave = fullBlockResolver.resolve(fullBlockDtoList);
 
-            BigBlock bigBlock = tuple.get(qBigBlock);
-            MiddleBlock middleBlock = tuple.get(qMiddleBlock);
-            SmallBlock smallBlock = tuple.get(qSmallBlock);
+        // DailyCourse 설정 및 저장
+        dailyCourse.addDailyCourse(
+            member
+        );
 
-            bigBlockMap.put(bigBlock.getBigBlockId(), bigBlock);
-            middleBlockMap.put(middleBlock.getMiddleBlockId(), middleBlock);
+        // Daily Course 저장 ------------------------------------------------------------------------- DB INSERT ( 1 )
+        DailyCourse savedDailyCourse = dailyCourseRepository.save(dailyCourse);
 
-            if (smallBlock != null) {
-                // SmallBlock이 있을때만 처리
-                existingSmallBlockMap.put(smallBlock.getPlaceId(), smallBlock);
-            }
+        // 블록 순서대로 Daily Block Connect 생성 (blockNum 순서를 GAP 간격 정렬 키로 저장)
+        List<Integer> orderKeys = GapOrdering.keysFor(fullBlockDtoList.stream().map(FullBlockDto::getBlockNum).toList());
+        List<DailyBlockConnect> dailyBlockConnectsToBatchSave = new ArrayList<>();
+        for (int i = 0; i < fullBlocksToBatchSave.size(); i++) {
+            DailyBlockConnect dailyBlockConnect = new DailyBlockConnect();
+            dailyBlockConnect.createNewConnect(savedDailyCourse, fullBlocksToBatchSave.get(i), orderKeys.get(i));
+            dailyBlockConnectsToBatchSave.add(dailyBlockConnect);
         }
 
+        // FullBlock, DailyBlockConnect, 연결객체는 시퀀스 ID라 커밋시 테이블별로 묶어서 INSERT
+        //FullBlock Batch 저장 ----------------------------------------------------------------------- DB INSERT ( 블록 50개당 1 )
+        fullBlockRepository.saveAll(fullBlocksToBatchSave);
+        //Daily Block Connect Batch 저장 ------------------------------------------------------------- DB INSERT ( 블록 50개당 1 )
+        dailyBlockConnectRepository.saveAll(dailyBlockConnectsToBatchSave);
+        // 그날 장소끼리 함께 추가된 수 증가 (커밋 이후)
+        placeCooccurrenceService.recordDays(Map.of(savedDailyCourse.getDailyCourseId(), fullBlocksToBatchSave));
+        //연결객체 저장 (dayNum 번째 일자 앞뒤 정렬 키 사이 값, 없으면 마지막 일자 뒤) ---------- DB SELECT (1), DB INSERT ( 1 )
+        Map<Long, Integer> dailyNums = insertDailyNum(createDto.getFullCourseId(), savedDailyCourse.getDailyCourseId(), createDto.getDayNum());
+        FullAndDailyCourseConnect connect = new FullAndDailyCourseConnect();
+        connect.createNewConnect(member, fullCourse, savedDailyCourse, dailyNums.get(savedDailyCourse.getDailyCourseId()));
+        fullAndDailyCourseConnectRepository.save(connect);
 
+        // 일일일정이 추가된 전체일정 스냅샷 무효화, 지역/카테고리 랭킹 구역 갱신 (커밋 이후)
+        courseSnapshotCacheService.evictFullCourse(createDto.getFullCourseId());
+        courseRegionRankingService.refresh(CourseRegionRankingService.CourseType.FULL, List.of(createDto.getFullCourseId()));
 
-        for (FullBlockDto fullBlockDto : fullBlockDtoList) {
-            // FullBlock과 관련된 엔티티 생성 및 연관 설정
-            FullBlock fullBlock = new FullBlock();
-            SmallBlockDto smallBlockDto = fullBlockDto.getSmallBlockDto();
-
-            SmallBlock smallBlock = existingSmallBlockMap.get(smallBlockDto.getPlaceId());
+        return savedDailyCourse;
+    }
 
-            // 존재하지 않으면 새로운 SmallBlock 생성
-            if (smallBlock == null) {
-                smallBlock = new SmallBlock();
 
-                MiddleBlock middleBlock = middleBlockMap.get(fullBlockDto.getMiddleBlockId());
+    /**
+     * 일일일정 수정
+     * - 저장된 블록 연결(DailyBlockConnect)과 비교해서 바뀐 부분만 반영
+     * - 추가 : FullBlock, 연결 배치 INSERT / 삭제 : 연결, FullBlock 1번씩 DELETE / 순서 변경 : CASE UPDATE 1번
+     * - 기존 블록(fullBlockId)의 장소, 지역, 카테고리가 바뀌었으면 삭제 + 추가로 반영
+     */
+    @Transactional
+    public void modifyDailyCourse(DailyCourseModifyDto modifyDto) {
+        if (modifyDto == null || modifyDto.getDailyCourseId() == null || modifyDto.getFullBlockDtoList() == null) {
+            throw new BadRequestException("modifyDto is invalid");
+        }
+        if (modifyDto.getVersion() == null) {
+            throw new BadRequestException("version is required");
+        }
 
-                if (middleBlock == null) {
-                    throw new ResourceNotFoundException("MiddleBlock not found");
-                }
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+        QFullBlock qFullBlock = QFullBlock.fullBlock;
+        Long dailyCourseId = modifyDto.getDailyCourseId();
+
+        // 작성자, 버전 확인 후 버전 증가 (다른 편집자는 커밋까지 대기 후 버전 불일치로 409) ------------------------ DB UPDATE (1)
+        increaseVersion(dailyCourseId, modifyDto.getMemberId(), modifyDto.getVersion());
+
+        // 저장된 블록 연결 (fullBlockId -> 연결, 순서대로) --------------------------------------------------- DB SELECT (1)
+        // 빠진 블록 해제, 내용 비교에 쓰는 장소/지역/카테고리 ID도 함께 조회 (FullBlock 엔티티는 읽지 않음)
+        List<Tuple> stored = query.select(qDailyBlockConnect.dailyBlockConnectId, qDailyBlockConnect.fullBlock.fullBlockId,
+                        qDailyBlockConnect.blockNum, qDailyBlockConnect.fullBlock.smallBlock.smallBlockId,
+                        qDailyBlockConnect.fullBlock.smallBlock.placeId,
+                        qDailyBlockConnect.fullBlock.bigBlock.bigBlockId, qDailyBlockConnect.fullBlock.middleBlock.middleBlockId)
+                .from(qDailyBlockConnect)
+                .where(qDailyBlockConnect.dailyCourse.dailyCourseId.eq(dailyCourseId))
+                .orderBy(qDailyBlockConnect.blockNum.asc())
+                .fetch();
 
-                // SmallBlock 엔티티 설정
-                smallBlock.createNewSmallBlock(
-                        smallBlockDto.getMapX(),
-                        smallBlockDto.getMapY(),
-                        smallBlockDto.getPlaceId(),
-                        middleBlock
-                );
+        Map<Long, Tuple> storedByFullBlockId = new HashMap<>();
+        List<Long> beforePlaceIds = new ArrayList<>();
+        for (Tuple tuple : stored) {
+            storedByFullBlockId.put(tuple.get(qDailyBlockConnect.fullBlock.fullBlockId), tuple);
+            beforePlaceIds.add(tuple.get(qDailyBlockConnect.fullBlock.smallBlock.smallBlockId));
+        }
 
-                existingSmallBlockMap.put(smallBlock.getPlaceId(), smallBlock);
+        // 요청 순서(blockNum 순)대로 나열한 뒤, 순서가 맞는 기존 정렬 키는 유지하고 나머지만 새 키 부여
+        List<FullBlockDto> requested = new ArrayList<>(modifyDto.getFullBlockDtoList());
+        requested.sort(Comparator.comparing(FullBlockDto::getBlockNum, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Set<Long> requestedFullBlockIds = new HashSet<>();
+        Set<Long> keptFullBlockIds = new HashSet<>();
+        List<Integer> currentKeys = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            FullBlockDto dto = requested.get(i);
+            if (dto.getFullBlockId() == null) {
+                currentKeys.add(null);
+                continue;
             }
 
-            BigBlock bigBlock = bigBlockMap.get(fullBlockDto.getBigBlockId());
-
-            if (bigBlock == null) {
-                throw new ResourceNotFoundException("BigBlock not found");
+            Tuple current = storedByFullBlockId.get(dto.getFullBlockId());
+            if (current == null || !requestedFullBlockIds.add(dto.getFullBlockId())) {
+                throw new BadRequestException("FullBlock(" + dto.getFullBlockId() + ") is not in this daily course");
+            }
+            if (isBlockChanged(dto, current)) {
+                // 장소/지역/카테고리가 바뀐 기존 블록은 삭제 + 추가로 처리 (같은 위치에 새 블록)
+                requested.set(i, new FullBlockDto(dto.getBlockNum(), dto.getBigBlockId(), dto.getMiddleBlockId(), dto.getSmallBlockDto(), null));
+                currentKeys.add(null);
+                continue;
+            }
+            keptFullBlockIds.add(dto.getFullBlockId());
+            currentKeys.add(current.get(qDailyBlockConnect.blockNum));
+        }
+        List<Integer> newKeys = GapOrdering.reassign(currentKeys);
+
+        List<FullBlockDto> addedBlocks = new ArrayList<>();
+        List<Integer> addedKeys = new ArrayList<>();
+        Map<Long, Integer> changedBlockNums = new LinkedHashMap<>(); // 연결 ID -> 새 정렬 키
+        for (int i = 0; i < requested.size(); i++) {
+            FullBlockDto dto = requested.get(i);
+            if (dto.getFullBlockId() == null) {
+                addedBlocks.add(dto);
+                addedKeys.add(newKeys.get(i));
+            } else if (!Objects.equals(currentKeys.get(i), newKeys.get(i))) {
+                Tuple current = storedByFullBlockId.get(dto.getFullBlockId());
+                changedBlockNums.put(current.get(qDailyBlockConnect.dailyBlockConnectId), newKeys.get(i));
             }
-
-            fullBlock.newFullBlock(
-                    bigBlock,
-                    smallBlock.getMiddleBlock(),
-                    smallBlock
-            );
-
-            fullBlocksToBatchSave.add(fullBlock);
         }
 
+        // 빠진 블록 삭제 (FullBlock은 일일일정마다 새로 만들어지므로 연결과 함께 삭제)
+        List<Long> removedConnectIds = new ArrayList<>();
+        List<Long> removedFullBlockIds = new ArrayList<>();
+        List<PlaceReference> removedReferences = new ArrayList<>();
+        storedByFullBlockId.forEach((fullBlockId, tuple) -> {
+            if (!keptFullBlockIds.contains(fullBlockId)) {
+                removedConnectIds.add(tuple.get(qDailyBlockConnect.dailyBlockConnectId));
+                removedFullBlockIds.add(fullBlockId);
+                removedReferences.add(new PlaceReference(tuple.get(qDailyBlockConnect.fullBlock.smallBlock.smallBlockId),
+                        tuple.get(qDailyBlockConnect.fullBlock.bigBlock.bigBlockId),
+                        tuple.get(qDailyBlockConnect.fullBlock.middleBlock.middleBlockId)));
+            }
+        });
+        if (!removedConnectIds.isEmpty()) {
+            // 빠진 장소 참조 수, 인기 장소 랭킹 감소 (버퍼, 커밋 이후, 위에서 조회한 ID 사용)
+            fullBlockResolver.release(removedReferences);
+
+            // ----------------------------------------------------------------------------------------- DB DELETE (2)
+            query.delete(qDailyBlockConnect)
+                    .where(qDailyBlockConnect.dailyBlockConnectId.in(removedConnectIds))
+                    .execute();
+            query.delete(qFullBlock)
+                    .where(qFullBlock.fullBlockId.in(removedFullBlockIds))
+                    .execute();
+        }
 
-        //=====================이 아래로 확인 필요...
+        // 순서가 바뀐 블록은 CASE 한번으로 UPDATE -------------------------------------------------------- DB UPDATE (1)
+        updateBlockNums(changedBlockNums);
 
-        //연결객체 생성
-        // @TODO daily_course_id null > INSERT 수행 순서 : daily도 저장한 후 id가져와야됨 > 확인 해주세요 (아래도 있습니다)
-        //FullAndDailyCourseConnect connect = new FullAndDailyCourseConnect();
-        //connect.createNewConnect(member, fullCourse, createDto.getDayNum());
+        // 추가된 블록 저장 --------------------------------------------------------------------- DB INSERT ( 블록 50개당 1 )
+        List<FullBlock> addedFullBlocks = List.of();
+        if (!addedBlocks.isEmpty()) {
+            DailyCourse dailyCourse = dailyCourseRepository.getReferenceById(dailyCourseId);
+            addedFullBlocks = fullBlockResolver.resolve(addedBlocks);
 
-        // DailyCourse 설정 및 저장
-        dailyCourse.addDailyCourse(
-            member
-        );
+            List<DailyBlockConnect> connects = new ArrayList<>();
+            for (int i = 0; i < addedFullBlocks.size(); i++) {
+                DailyBlockConnect dailyBlockConnect = new DailyBlockConnect();
+                dailyBlockConnect.createNewConnect(dailyCourse, addedFullBlocks.get(i), addedKeys.get(i));
+                connects.add(dailyBlockConnect);
+            }
+            fullBlockRepository.saveAll(addedFullBlocks);
+            dailyBlockConnectRepository.saveAll(connects);
+        }
 
-        // @TODO Full block - Daily Connect에 저장이 안됩니다
-        //FullBlock Batch 저장 ----------------------------------------------------------------------- DB INSERT ( 1 )
-        fullBlockRepository.saveAll(fullBlocksToBatchSave);
-        // Daily Course 저장 ------------------------------------------------------------------------- DB INSERT ( 1 )
-        DailyCourse savedDailyCourse = dailyCourseRepository.save(dailyCourse);
-        //연결객체 저장 -------------------------------------------------------------------------------- DB INSERT ( 1 )
-        // @TODO daily_course_id null > INSERT 수행 순서 변경 필요해서 수정해두었습니다. 확인부탁드려요 -> 확인
-        FullAndDailyCourseConnect connect = new FullAndDailyCourseConnect();
-        connect.createNewConnect(member, fullCourse, savedDailyCourse, createDto.getDayNum());
-        // Daily Course 저장 ------------------------------------------------------------------------- DB INSERT ( 1 )
-        fullAndDailyCourseConnectRepository.save(connect);
+        // 수정 후 장소 순서 (요청 순서) 로 함께 추가된 장소 갱신 (커밋 이후)
+        List<Long> afterPlaceIds = new ArrayList<>();
+        int addedIndex = 0;
+        for (FullBlockDto dto : requested) {
+            if (dto.getFullBlockId() == null) {
+                afterPlaceIds.add(addedFullBlocks.get(addedIndex++).getSmallBlock().getSmallBlockId());
+            } else {
+                afterPlaceIds.add(storedByFullBlockId.get(dto.getFullBlockId()).get(qDailyBlockConnect.fullBlock.smallBlock.smallBlockId));
+            }
+        }
+        placeCooccurrenceService.recordChange(dailyCourseId, beforePlaceIds, afterPlaceIds);
 
-        return savedDailyCourse;
+        // 블록이 바뀌었으므로 이 일정, 이 일정을 포함한 전체일정의 지역/카테고리 랭킹 구역 갱신 (커밋 이후)
+        List<Long> fullCourseIds = evictDailyCourseSnapshots(dailyCourseId);
+        courseRegionRankingService.refresh(CourseRegionRankingService.CourseType.DAILY, List.of(dailyCourseId));
+        courseRegionRankingService.refresh(CourseRegionRankingService.CourseType.FULL, fullCourseIds);
     }
 
+    // 요청에 값이 있는데 저장된 블록과 장소(placeId), 지역, 카테고리 중 하나라도 다르면 변경 (값이 없으면 유지)
+    private boolean isBlockChanged(FullBlockDto dto, Tuple stored) {
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+        String placeId = dto.getSmallBlockDto() == null ? null : dto.getSmallBlockDto().getPlaceId();
+        return (dto.getBigBlockId() != null && !dto.getBigBlockId().equals(stored.get(qDailyBlockConnect.fullBlock.bigBlock.bigBlockId)))
+                || (dto.getMiddleBlockId() != null && !dto.getMiddleBlockId().equals(stored.get(qDailyBlockConnect.fullBlock.middleBlock.middleBlockId)))
+                || (placeId != null && !placeId.equals(stored.get(qDailyBlockConnect.fullBlock.smallBlock.placeId)));
+    }
 
-    /** 일일일정 수정*/
-    public DailyCourse modifyDailyCourse(DailyCourseCreateDto request) {
+    /**
+     * 블록 이동 (드래그 앤 드롭)
+     * - afterFullBlockId 블록 바로 뒤로 이동, null 이면 맨 앞으로
+     * - 앞뒤 정렬 키 사이 값으로 이동한 블록 1행만 UPDATE (사이 값이 없을 때만 전체 재배치)
+     */
+    @Transactional
+    public void moveBlock(Long dailyCourseId, Long memberId, Long fullBlockId, Long afterFullBlockId) {
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
 
-        return null;
-    }
+        // 작성자 확인 + 버전 증가 (이동은 위치 기준이라 버전 확인 없이 반영, 목록 전체 수정과는 충돌 감지) ------- DB UPDATE (1)
+        increaseVersion(dailyCourseId, memberId, null);
 
+        // 현재 순서 (정렬 키 인덱스 사용) ------------------------------------------------------------------ DB SELECT (1)
+        List<Tuple> stored = query.select(qDailyBlockConnect.dailyBlockConnectId, qDailyBlockConnect.fullBlock.fullBlockId, qDailyBlockConnect.blockNum)
+                .from(qDailyBlockConnect)
+                .where(qDailyBlockConnect.dailyCourse.dailyCourseId.eq(dailyCourseId))
+                .orderBy(qDailyBlockConnect.blockNum.asc())
+                .fetch();
 
+        LinkedHashMap<Long, Integer> orderedKeys = new LinkedHashMap<>(); // fullBlockId -> 정렬 키
+        Map<Long, Long> connectIds = new HashMap<>();                      // fullBlockId -> 연결 ID
+        for (Tuple tuple : stored) {
+            Long storedFullBlockId = tuple.get(qDailyBlockConnect.fullBlock.fullBlockId);
+            orderedKeys.put(storedFullBlockId, tuple.get(qDailyBlockConnect.blockNum));
+            connectIds.put(storedFullBlockId, tuple.get(qDailyBlockConnect.dailyBlockConnectId));
+        }
 
+        Map<Long, Integer> changed = GapOrdering.move(orderedKeys, fullBlockId, afterFullBlockId);
+        if (changed == null) {
+            throw new BadRequestException("FullBlock(" + fullBlockId + ") cannot be moved after FullBlock(" + afterFullBlockId + ")");
+        }
 
+        Map<Long, Integer> changedBlockNums = new LinkedHashMap<>();
+        changed.forEach((changedFullBlockId, blockNum) -> changedBlockNums.put(connectIds.get(changedFullBlockId), blockNum));
 
-    /**좋아요 설정*/
-    public void setFavorite(Long dailyCourseId, Long memberId) {
+        // 보통 1행 ------------------------------------------------------------------------------------ DB UPDATE (1)
+        updateBlockNums(changedBlockNums);
+        evictDailyCourseSnapshots(dailyCourseId);
+    }
 
-        QMember qMember = QMember.member;
+    /**
+     * 버전 확인 후 증가 (벌크 UPDATE라 @Version 대신 직접 증가)
+     * - expectedVersion이 null이면 확인 없이 증가
+     * - 0행이면 작성자가 아니거나(404) 버전이 다름(409, 현재 버전 포함)
+     */
+    private void increaseVersion(Long dailyCourseId, Long memberId, Long expectedVersion) {
         QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
 
-        Tuple tuple = query.select(qMember, qDailyCourse)
-                .from(qMember)
-                .join(qDailyCourse).on(qDailyCourse.dailyCourseId.eq(dailyCourseId))
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
+        BooleanExpression condition = qDailyCourse.dailyCourseId.eq(dailyCourseId)
+                .and(qDailyCourse.member.memberId.eq(memberId));
+        if (expectedVersion != null) {
+            condition = condition.and(qDailyCourse.version.eq(expectedVersion));
+        }
 
-        if (tuple == null || tuple.get(qMember) == null || tuple.get(qDailyCourse) == null) {
-            throw new AddReviewException("Member or DailyCourse not found");
+        long updated = query.update(qDailyCourse)
+                .set(qDailyCourse.version, qDailyCourse.version.add(1))
+                .where(condition)
+                .execute();
+        if (updated > 0) {
+            return;
         }
 
-        DailyCourseFavorite dailyCourseFavorite = new DailyCourseFavorite();
+        Long currentVersion = query.select(qDailyCourse.version)
+                .from(qDailyCourse)
+                .where(qDailyCourse.dailyCourseId.eq(dailyCourseId)
+                        .and(qDailyCourse.member.memberId.eq(memberId)))
+                .fetchFirst();
+        if (currentVersion == null) {
+            throw new ResourceNotFoundException("Daily Course not found by ID(" + dailyCourseId + ")");
+        }
+        throw new CourseVersionConflictException("Daily Course(" + dailyCourseId + ") was modified by another request", currentVersion);
+    }
 
-        dailyCourseFavorite.addFavorite(
-                tuple.get(qMember),
-                tuple.get(qDailyCourse)
-        );
+    // 연결 ID -> 정렬 키를 CASE 한번으로 UPDATE
+    private void updateBlockNums(Map<Long, Integer> blockNums) {
+        if (blockNums.isEmpty()) {
+            return;
+        }
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : blockNums.entrySet()) {
+            BooleanExpression condition = qDailyBlockConnect.dailyBlockConnectId.eq(entry.getKey());
+            cases = (cases == null)
+                    ? new CaseBuilder().when(condition).then(entry.getValue())
+                    : cases.when(condition).then(entry.getValue());
+        }
+        query.update(qDailyBlockConnect)
+                .set(qDailyBlockConnect.blockNum, cases.otherwise(qDailyBlockConnect.blockNum))
+                .where(qDailyBlockConnect.dailyBlockConnectId.in(blockNums.keySet()))
+                .execute();
+    }
 
-        try {
-            dailyCourseFavoriteRepository.save(dailyCourseFavorite);
-        } catch (Exception e) {
-            log.error("Failed to add DailyCourseFavorite. ", e);
-            throw new AddDailyCourseFavoriteException("Failed to save DailyCourseFavorite");
+    /**
+     * 전체일정에 추가할 일자의 정렬 키 (dailyCourseId -> 새 키)
+     * - 기존 일자의 정렬 키 순서에서 dayNum 번째 앞뒤 키 사이 값, 사이 값이 없어서 재배치된 기존 일자는 여기서 UPDATE
+     * - 전체일정 행 락(버전 증가)을 잡은 뒤 호출해야 함
+     */
+    private Map<Long, Integer> insertDailyNum(Long fullCourseId, Long dailyCourseId, Integer dayNum) {
+        QFullAndDailyCourseConnect qConnect = QFullAndDailyCourseConnect.fullAndDailyCourseConnect;
+
+        // 현재 순서 (정렬 키 인덱스 사용) ------------------------------------------------------------------ DB SELECT (1)
+        List<Tuple> stored = query.select(qConnect.fullDailyCourseConnectId, qConnect.dailyCourse.dailyCourseId, qConnect.dailyNum)
+                .from(qConnect)
+                .where(qConnect.fullCourse.fullCourseId.eq(fullCourseId))
+                .orderBy(qConnect.dailyNum.asc())
+                .fetch();
+
+        LinkedHashMap<Long, Integer> orderedKeys = new LinkedHashMap<>(); // dailyCourseId -> 정렬 키
+        Map<Long, Long> connectIds = new HashMap<>();                      // dailyCourseId -> 연결 ID
+        for (Tuple tuple : stored) {
+            Long storedDailyCourseId = tuple.get(qConnect.dailyCourse.dailyCourseId);
+            orderedKeys.put(storedDailyCourseId, tuple.get(qConnect.dailyNum));
+            connectIds.put(storedDailyCourseId, tuple.get(qConnect.fullDailyCourseConnectId));
         }
 
+        int position = dayNum == null ? stored.size() + 1 : dayNum;
+        Map<Long, Integer> changed = GapOrdering.insert(orderedKeys, dailyCourseId, position);
 
+        // 재배치된 기존 일자만 CASE 한번으로 UPDATE (보통 0행) ------------------------------------------ DB UPDATE (0~1)
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        List<Long> changedConnectIds = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : changed.entrySet()) {
+            Long connectId = connectIds.get(entry.getKey());
+            if (connectId == null) {
+                continue; // 새 일자
+            }
+            BooleanExpression condition = qConnect.fullDailyCourseConnectId.eq(connectId);
+            cases = (cases == null)
+                    ? new CaseBuilder().when(condition).then(entry.getValue())
+                    : cases.when(condition).then(entry.getValue());
+            changedConnectIds.add(connectId);
+        }
+        if (cases != null) {
+            query.update(qConnect)
+                    .set(qConnect.dailyNum, cases.otherwise(qConnect.dailyNum))
+                    .where(qConnect.fullDailyCourseConnectId.in(changedConnectIds))
+                    .execute();
+        }
+        return changed;
     }
 
-    /**스크랩 설정*/
-    public void setScrap(Long dailyCourseId, Long memberId) {
+    // 일일일정, 이 일정을 포함한 전체일정 스냅샷 무효화 (커밋 이후), 포함한 전체일정 ID 반환 ----------------------- DB SELECT (1)
+    private List<Long> evictDailyCourseSnapshots(Long dailyCourseId) {
+        QFullAndDailyCourseConnect qFullAndDailyCourseConnect = QFullAndDailyCourseConnect.fullAndDailyCourseConnect;
 
-        QMember qMember = QMember.member;
-        QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+        courseSnapshotCacheService.evictDailyCourse(dailyCourseId);
+        List<Long> fullCourseIds = query.select(qFullAndDailyCourseConnect.fullCourse.fullCourseId)
+                .from(qFullAndDailyCourseConnect)
+                .where(qFullAndDailyCourseConnect.dailyCourse.dailyCourseId.eq(dailyCourseId))
+                .fetch();
+        fullCourseIds.forEach(courseSnapshotCacheService::evictFullCourse);
+        return fullCourseIds;
+    }
 
-        Tuple tuple = query.select(qMember, qDailyCourse)
-                .from(qMember)
-                .join(qDailyCourse).on(qDailyCourse.dailyCourseId.eq(dailyCourseId))
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
 
-        if (tuple == null || tuple.get(qMember) == null || tuple.get(qDailyCourse) == null) {
-            throw new AddReviewException("Member or DailyCourse not found");
+
+
+
+    /**좋아요 설정 (이미 좋아요한 일정이면 그대로 성공)*/
+    public void setFavorite(Long dailyCourseId, Long memberId) {
+
+        // 사용자, 일정 존재 확인과 중복 확인은 DB가 (FK, 유니크 키) ---------------------------------------- DB INSERT (1)
+        int inserted;
+        try {
+            inserted = dailyCourseFavoriteRepository.insertIgnore(memberId, dailyCourseId);
+        } catch (DataAccessException e) {
+            log.error("Failed to add DailyCourseFavorite. ", e);
+            throw new AddDailyCourseFavoriteException("Failed to save DailyCourseFavorite");
+        }
+
+        if (inserted == 0) {
+            // 저장 안된 원인 확인 (중복 요청이면 성공 처리) ----------------------------------------------- DB SELECT (1)
+            if (!dailyCourseFavoriteRepository.existsByMember_MemberIdAndDailyCourse_DailyCourseId(memberId, dailyCourseId)) {
+                throw new ResourceNotFoundException("Member or DailyCourse not found");
+            }
+            return;
         }
 
-        DailyCourseScrap dailyCourseScrap = new DailyCourseScrap();
+        // 좋아요 수는 버퍼에 누적 후 주기적으로 배치 반영 (반영시 스냅샷 무효화)
+        courseCountBuffer.increment(CourseCountBuffer.Counter.DAILY_FAVORITE, dailyCourseId);
+        // 추천 랭킹(ZINCRBY), 사용자별 좋아요/스크랩 캐시 반영
+        courseRecommendService.increaseDailyCourse(dailyCourseId);
+        courseInteractionCacheService.add(CourseCountBuffer.Counter.DAILY_FAVORITE, memberId, dailyCourseId);
+        personalRecommendService.onInteraction(CourseRegionRankingService.CourseType.DAILY, memberId, dailyCourseId);
+    }
 
-        dailyCourseScrap.addScrap(
-                tuple.get(qMember),
-                tuple.get(qDailyCourse)
-        );
+    /**스크랩 설정 (이미 스크랩한 일정이면 그대로 성공)*/
+    public void setScrap(Long dailyCourseId, Long memberId) {
 
+        // 사용자, 일정 존재 확인과 중복 확인은 DB가 (FK, 유니크 키) ---------------------------------------- DB INSERT (1)
+        int inserted;
         try {
-            dailyCourseScrapRepository.save(dailyCourseScrap);
-        } catch (Exception e) {
+            inserted = dailyCourseScrapRepository.insertIgnore(memberId, dailyCourseId);
+        } catch (DataAccessException e) {
             log.error("Failed to add DailyCourseScrap. ", e);
             throw new AddDailyCourseScrapException("Failed to save DailyCourseScrap");
         }
+
+        if (inserted == 0) {
+            // 저장 안된 원인 확인 (중복 요청이면 성공 처리) ----------------------------------------------- DB SELECT (1)
+            if (!dailyCourseScrapRepository.existsByMember_MemberIdAndDailyCourse_DailyCourseId(memberId, dailyCourseId)) {
+                throw new ResourceNotFoundException("Member or DailyCourse not found");
+            }
+            return;
+        }
+
+        // 스크랩 수는 버퍼에 누적 후 주기적으로 배치 반영 (반영시 스냅샷 무효화)
+        courseCountBuffer.increment(CourseCountBuffer.Counter.DAILY_SCRAP, dailyCourseId);
+        // 추천 랭킹(ZINCRBY), 사용자별 좋아요/스크랩 캐시 반영
+        courseRecommendService.increaseDailyCourse(dailyCourseId);
+        courseInteractionCacheService.add(CourseCountBuffer.Counter.DAILY_SCRAP, memberId, dailyCourseId);
+        personalRecommendService.onInteraction(CourseRegionRankingService.CourseType.DAILY, memberId, dailyCourseId);
     }
 
     /**좋아요한 일일일정 목록*/
+    @Transactional(readOnly = true)
     public List<DailyCourseFavorite> getMyFavorites(Long memberId) {
         QDailyCourseFavorite qDailyCourseFavorite = QDailyCourseFavorite.dailyCourseFavorite;
 
@@ -309,6 +656,7 @@ public class DailyCourseService {
     }
 
     /**스크랩한 일일일정 목록*/
+    @Transactional(readOnly = true)
     public List<DailyCourseScrap> getMyScraps(Long memberId) {
         QDailyCourseScrap qDailyCourseFavorite = QDailyCourseScrap.dailyCourseScrap;
 
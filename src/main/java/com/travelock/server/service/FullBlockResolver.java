@@ -0,0 +1,132 @@
+package com.travelock.server.service;
+
+import com.travelock.server.domain.BigBlock;
+import com.travelock.server.domain.FullBlock;
+import com.travelock.server.domain.MiddleBlock;
+import com.travelock.server.domain.SmallBlock;
+import com.travelock.server.dto.course.daily_create.FullBlockDto;
+import com.travelock.server.dto.course.daily_create.SmallBlockDto;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
+import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
+import com.travelock.server.repository.BigBlockRepository;
+import com.travelock.server.repository.MiddleBlockRepository;
+import com.travelock.server.repository.SmallBlockRepository;
+import com.travelock.server.service.cache.PlaceLeaderboardService;
+import com.travelock.server.service.cache.PlaceLeaderboardService.PlaceReference;
+import com.travelock.server.service.cache.ReferenceDictionary;
+import com.travelock.server.service.cache.SmallBlockReferenceCountBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 일정 저장 요청의 블록(Big, Middle, Small)을 FullBlock 엔티티로 변환
+ * - Big, Middle : 사전으로 검증 후 참조(프록시)만 사용 (DB 조회 없음)
+ * - Small : 중복 제거한 placeId로 1번 조회, 없는 장소는 INSERT ... ON DUPLICATE KEY 로 생성 (동시 저장에도 유니크 키 위반 없음)
+ * - 블록 수에 비례하는 만큼만 조회/생성 (ID 목록끼리 조인하지 않음)
+ * - 장소 참조 수는 SmallBlockReferenceCountBuffer로 지연 반영 (새 장소도 0으로 저장 후 버퍼), 인기 장소 랭킹은 커밋 이후 증가
+ * - 일정에서 빠지는 블록은 release 로 참조 수, 랭킹을 같은 방식으로 감소
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FullBlockResolver {
+
+    private final ReferenceDictionary referenceDictionary;
+    private final BigBlockRepository bigBlockRepository;
+    private final MiddleBlockRepository middleBlockRepository;
+    private final SmallBlockRepository smallBlockRepository;
+    private final SmallBlockReferenceCountBuffer referenceCountBuffer;
+    private final PlaceLeaderboardService placeLeaderboardService;
+
+    /**
+     * 요청 순서대로 FullBlock 생성 (FullBlock 저장은 호출하는 쪽에서)
+     * - 새 SmallBlock은 여기서 바로 저장 (JDBC 배치 1번, 같은 장소를 다른 요청이 먼저 저장했으면 그 행 사용)
+     */
+    public List<FullBlock> resolve(List<FullBlockDto> fullBlockDtoList) {
+        if (fullBlockDtoList == null || fullBlockDtoList.isEmpty()) {
+            throw new BadRequestException("fullBlockDtoList is empty");
+        }
+
+        // ID 검증, placeId 중복 제거
+        Set<String> placeIds = new LinkedHashSet<>();
+        for (FullBlockDto dto : fullBlockDtoList) {
+            if (dto.getSmallBlockDto() == null || dto.getSmallBlockDto().getPlaceId() == null) {
+                throw new BadRequestException("smallBlockDto.placeId is required");
+            }
+            if (referenceDictionary.getBigBlock(dto.getBigBlockId()).isEmpty()) {
+                throw new ResourceNotFoundException("BigBlock not found");
+            }
+            if (referenceDictionary.getCategory(dto.getMiddleBlockId()).isEmpty()) {
+                throw new ResourceNotFoundException("MiddleBlock not found");
+            }
+            placeIds.add(dto.getSmallBlockDto().getPlaceId());
+        }
+
+        // 이미 존재하는 SmallBlock 조회 --------------------------------------------------------------- DB SELECT (1)
+        Map<String, SmallBlock> smallBlockMap = smallBlockRepository.findByPlaceIds(placeIds);
+
+        Map<Long, BigBlock> bigBlockMap = new HashMap<>();
+        Map<Long, MiddleBlock> middleBlockMap = new HashMap<>();
+
+        // 없는 장소는 placeId당 1개만 만들어서 저장 ------------------------------- DB INSERT (배치 1), DB SELECT (1)
+        List<SmallBlock> newSmallBlocks = new ArrayList<>();
+        for (FullBlockDto dto : fullBlockDtoList) {
+            SmallBlockDto smallBlockDto = dto.getSmallBlockDto();
+            if (smallBlockMap.containsKey(smallBlockDto.getPlaceId())) {
+                continue;
+            }
+            SmallBlock smallBlock = new SmallBlock();
+            smallBlock.createNewSmallBlock(
+                    smallBlockDto.getMapX(),
+                    smallBlockDto.getMapY(),
+                    smallBlockDto.getPlaceId(),
+                    middleBlockMap.computeIfAbsent(dto.getMiddleBlockId(), middleBlockRepository::getReferenceById)
+            );
+            smallBlockMap.put(smallBlock.getPlaceId(), smallBlock);
+            newSmallBlocks.add(smallBlock);
+        }
+        if (!newSmallBlocks.isEmpty()) {
+            log.info("새 SmallBlock 생성 : {}개", newSmallBlocks.size());
+            smallBlockRepository.insertIfAbsent(newSmallBlocks).forEach((placeId, smallBlockId) ->
+                    smallBlockMap.put(placeId, smallBlockRepository.getReferenceById(smallBlockId)));
+        }
+
+        List<FullBlock> fullBlocks = new ArrayList<>();
+
+        for (FullBlockDto dto : fullBlockDtoList) {
+            BigBlock bigBlock = bigBlockMap.computeIfAbsent(dto.getBigBlockId(), bigBlockRepository::getReferenceById);
+            MiddleBlock middleBlock = middleBlockMap.computeIfAbsent(dto.getMiddleBlockId(), middleBlockRepository::getReferenceById);
+            SmallBlock smallBlock = smallBlockMap.get(dto.getSmallBlockDto().getPlaceId());
+
+            // 장소 참조 수는 버퍼에 누적 후 주기적으로 반영 (행 락 회피)
+            referenceCountBuffer.increment(smallBlock.getSmallBlockId());
+
+            FullBlock fullBlock = new FullBlock();
+            fullBlock.newFullBlock(bigBlock, middleBlock, smallBlock);
+            fullBlocks.add(fullBlock);
+        }
+
+        // 새 장소도 ID가 부여된 뒤라 블록 전체를 랭킹에 반영
+        placeLeaderboardService.recordReferences(fullBlocks);
+
+        return fullBlocks;
+    }
+
+    /**
+     * 일정에서 빠진 FullBlock의 장소 참조 해제 (FullBlock 삭제는 호출하는 쪽에서)
+     * - 참조 수는 버퍼에 -1, 인기 장소 랭킹은 커밋 이후 -1
+     * - 엔티티 대신 조회한 ID(장소, 지역, 카테고리)만 받음
+     */
+    public void release(List<PlaceReference> removedReferences) {
+        if (removedReferences.isEmpty()) {
+            return;
+        }
+        for (PlaceReference reference : removedReferences) {
+            referenceCountBuffer.decrement(reference.smallBlockId());
+        }
+        placeLeaderboardService.removeReferences(removedReferences);
+    }
+}
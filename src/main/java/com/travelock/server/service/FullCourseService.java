@@ -1,57 +1,125 @@
 package com.travelock.server.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.config.datasource.ReplicaRoutingContext;
 import com.travelock.server.domain.*;
 import com.travelock.server.dto.DailyCourseRequestDTO;
+import com.travelock.server.dto.FullCourseCardDTO;
+import com.travelock.server.dto.FullCourseCardPageDTO;
 import com.travelock.server.dto.FullCourseRequestDTO;
+import com.travelock.server.dto.FullCourseResponseDTO;
+import com.travelock.server.dto.course.daily_create.FullBlockDto;
 import com.travelock.server.dto.course.full_create.DailyCourseDto;
 import com.travelock.server.dto.course.full_create.FullCourseCreateDto;
 import com.travelock.server.exception.GlobalExceptionHandler;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
 import com.travelock.server.exception.base_exceptions.DataAccessFailException;
 import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
 import com.travelock.server.exception.course.AddFullCourseFavoriteException;
 import com.travelock.server.exception.course.AddFullCourseScrapException;
+import com.travelock.server.exception.course.CourseVersionConflictException;
 import com.travelock.server.exception.course.EmptyTitleException;
-import com.travelock.server.exception.review.AddReviewException;
 import com.travelock.server.repository.*;
+import com.travelock.server.service.cache.CourseCountBuffer;
+import com.travelock.server.service.cache.CourseInteractionCacheService;
+import com.travelock.server.service.cache.CourseRecommendService;
+import com.travelock.server.service.cache.CourseRegionRankingService;
+import com.travelock.server.service.cache.CourseSnapshotCacheService;
+import com.travelock.server.service.cache.PersonalRecommendService;
+import com.travelock.server.service.cache.PlaceCooccurrenceService;
+import com.travelock.server.util.ETagUtil;
+import com.travelock.server.util.GapOrdering;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FullCourseService {
     private final JPAQueryFactory query;
+    private final ObjectMapper objectMapper;
     private final FullCourseRepository fullCourseRepository;
     private final FullCourseFavoriteRepository fullCourseFavoriteRepository;
     private final FullCourseScrapRepository fullCourseScrapRepository;
     private final FullAndDailyCourseConnectRepository fullAndDailyCourseConnectRepository;
     private final MemberRepository memberRepository;
+    private final CourseSnapshotCacheService courseSnapshotCacheService;
+    private final CourseCountBuffer courseCountBuffer;
+    private final CourseRecommendService courseRecommendService;
+    private final CourseInteractionCacheService courseInteractionCacheService;
+    private final PlaceCooccurrenceService placeCooccurrenceService;
+    private final PersonalRecommendService personalRecommendService;
+    private final DailyCourseRepository dailyCourseRepository;
+    private final FullBlockRepository fullBlockRepository;
+    private final DailyBlockConnectRepository dailyBlockConnectRepository;
+    private final FullBlockResolver fullBlockResolver;
+
+
+    @Value("${application.course.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${application.course.max-page-size:50}")
+    private int maxPageSize;
+
+    @Value("${application.course.max-batch-size:30}")
+    private int maxBatchSize;
 
 
     /**
      * 멤버가 생성한 Full Course 조회
+     * - fullCourseId 기준 커서(keyset) 페이징, cursor보다 작은 ID부터 size개 조회
+     * - 엔티티 대신 카드용 컬럼만 조회
      */
-    public List<FullCourse> findMemberFullCourses(Long memberId) {
+    @Transactional(readOnly = true)
+    public FullCourseCardPageDTO findMemberFullCourses(Long memberId, Long cursor, Integer size) {
         QFullCourse qFullCourse = QFullCourse.fullCourse;
-        // 특정 멤버가 생성한 전체 일정을 최근 생성일자순으로 조회
-        List<FullCourse> fullCourses = query
-                .selectFrom(qFullCourse)
-                .where(qFullCourse.member.memberId.eq(memberId))
+
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+
+        // 특정 멤버가 생성한 전체 일정을 최근 생성일자순으로 조회, 다음 페이지 확인용으로 1개 더 조회
+        List<FullCourseCardDTO> fullCourses = query
+                .select(Projections.constructor(FullCourseCardDTO.class,
+                        qFullCourse.fullCourseId,
+                        qFullCourse.title,
+                        qFullCourse.favoriteCount,
+                        qFullCourse.scarpCount
+                ))
+                .from(qFullCourse)
+                .where(
+                        qFullCourse.member.memberId.eq(memberId),
+                        cursor == null ? null : qFullCourse.fullCourseId.lt(cursor)
+                )
                 .orderBy(qFullCourse.fullCourseId.desc())
+                .limit(pageSize + 1)
                 .fetch(); // 데이터가 없으면 빈리스트 반환
 
-        return fullCourses;
+        boolean hasNext = fullCourses.size() > pageSize;
+        if (hasNext) {
+            fullCourses = new ArrayList<>(fullCourses.subList(0, pageSize));
+        }
+
+        Long nextCursor = hasNext ? fullCourses.get(fullCourses.size() - 1).getFullCourseId() : null;
+
+        return new FullCourseCardPageDTO(fullCourses, nextCursor, hasNext);
     }
 
     /**
      * FullCourse ID로 Full Course 조회
      */
+    @Transactional(readOnly = true)
     public FullCourse findFullCourse(Long fullCourseId) {
         QFullCourse qFullCourse = QFullCourse.fullCourse;
         // 특정 멤버가 생성한 전체 일정을 최근 생성일자순으로 조회
@@ -67,6 +135,100 @@ public class FullCourseService {
         return fullCourse;
     }
 
+    /**
+     * FullCourse ID로 Full Course 상세 조회
+     * - Redis 스냅샷 우선 조회, 히트시 DB 조회 없음
+     * - 미스시 일일일정, 블록까지 단계별 IN 쿼리로 조회 (쿼리 3번) 후 스냅샷 저장
+     */
+    public FullCourseResponseDTO getFullCourseDetail(Long fullCourseId) {
+        return getFullCourseDetail(fullCourseId, getFullCourseVersion(fullCourseId));
+    }
+
+    // 조회 전 버전을 먼저 읽어서, 조회 중 수정이 발생하면 이전 버전 키에 저장되도록 함
+    public FullCourseResponseDTO getFullCourseDetail(Long fullCourseId, long version) {
+        FullCourseResponseDTO fullCourse = courseSnapshotCacheService.getFullCourse(fullCourseId, version);
+        if (fullCourse != null) {
+            return fullCourse;
+        }
+
+        // 스냅샷은 최대 TTL 동안 남으므로 복제 지연으로 이전 데이터가 새 버전 키에 저장되지 않도록 primary 조회
+        fullCourse = ReplicaRoutingContext.onPrimary(() -> fullCourseRepository.findFullCourseDetail(fullCourseId));
+
+        if (fullCourse == null) {
+            throw new ResourceNotFoundException("Full Course not found by ID("+fullCourseId+")");
+        }
+
+        courseSnapshotCacheService.putFullCourse(fullCourseId, version, fullCourse);
+        return fullCourse;
+    }
+
+    /**
+     * 전체일정 여러개 조회 By FullCourseId 목록
+     * - 스냅샷 MGET 후 캐시 미스만 단계별 IN 쿼리로 조회
+     * - 요청 순서대로 반환, 존재하지 않는 ID는 제외
+     */
+    public List<FullCourseResponseDTO> getFullCourseDetails(List<Long> fullCourseIds) {
+        if (fullCourseIds == null || fullCourseIds.isEmpty()) {
+            throw new BadRequestException("fullCourseIds is empty");
+        }
+
+        Set<Long> uniqueIds = new LinkedHashSet<>(fullCourseIds);
+        if (uniqueIds.size() > maxBatchSize) {
+            throw new BadRequestException("Too many fullCourseIds (max " + maxBatchSize + ")");
+        }
+
+        // 캐시 조회 -------------------------------------------------------------------------------REDIS MGET (2)
+        Map<Long, Long> versions = courseSnapshotCacheService.getFullCourseVersions(uniqueIds);
+        Map<Long, FullCourseResponseDTO> fullCourses = new HashMap<>(courseSnapshotCacheService.getFullCourses(versions));
+
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            if (!fullCourses.containsKey(id)) {
+                missedIds.add(id);
+            }
+        }
+
+        // 캐시 미스만 DB 조회 ---------------------------------------------------------------------DB SELECT (IN)
+        if (!missedIds.isEmpty()) {
+            Map<Long, FullCourseResponseDTO> loaded =
+                    ReplicaRoutingContext.onPrimary(() -> fullCourseRepository.findFullCourseDetails(missedIds));
+            loaded.forEach((id, fullCourse) -> {
+                courseSnapshotCacheService.putFullCourse(id, versions.get(id), fullCourse);
+                fullCourses.put(id, fullCourse);
+            });
+        }
+
+        List<FullCourseResponseDTO> result = new ArrayList<>();
+        for (Long id : fullCourseIds) {
+            FullCourseResponseDTO fullCourse = fullCourses.get(id);
+            if (fullCourse != null) {
+                result.add(fullCourse);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * FullCourse 스냅샷 버전 (Redis 조회 1번)
+     */
+    public long getFullCourseVersion(Long fullCourseId) {
+        return courseSnapshotCacheService.getFullCourseVersion(fullCourseId);
+    }
+
+    /**
+     * 응답 본문 기준 ETag (직렬화한 응답의 SHA-256)
+     * - 실제로 내려주는 DTO로 계산하므로 스냅샷이 DB보다 늦더라도 본문과 ETag가 항상 일치
+     *   (스냅샷 버전 INCR 전, 실패 후 조회에서 새 ETag에 이전 본문이 묶여 304가 계속되지 않도록)
+     * - 버전, 좋아요/스크랩 수 외에 장소 참조 수, 닉네임 등 본문의 모든 값 반영
+     */
+    public String getFullCourseETag(FullCourseResponseDTO fullCourse) {
+        try {
+            return ETagUtil.contentTag(objectMapper.writeValueAsString(fullCourse));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize FullCourseResponseDTO", e);
+        }
+    }
+
     /**전체일정 생성
      * -> 일일일정 생성시 연결객체 생성됨. 전체일정은 간단하게 저장해도 될듯
      * */
@@ -98,7 +260,90 @@ public class FullCourseService {
         return fullCourseRepository.save(fullCourse);
     }
 
+    /**
+     * 전체일정(여행) 한번에 저장
+     * - 전체일정, 일자별 일일일정, 블록, 연결 객체를 한 트랜잭션으로 저장
+     * - 모든 일자의 블록을 한번에 변환 (Big, Middle은 사전, Small은 1번 조회)
+     * - 전체일정 외에는 시퀀스 ID라 테이블별 배치 INSERT
+     */
+    @Transactional
+    public Long createFullTrip(FullCourseCreateDto createDto) {
+        if (createDto == null || createDto.getDailyCourseDtoList() == null || createDto.getDailyCourseDtoList().isEmpty()) {
+            throw new BadRequestException("dailyCourseDtoList is empty");
+        }
+        if (createDto.getTitle() == null || createDto.getTitle().isBlank()) {
+            throw new EmptyTitleException("Title is empty");
+        }
+        if (createDto.getMemberId() == null) {
+            throw new BadRequestException("memberId is required");
+        }
+
+        //현재 사용자 조회 ------------------------------------------------------------------------------DB SELECT (1)
+        Member member = memberRepository.findById(createDto.getMemberId())
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found"));
+
+        // 모든 일자의 블록을 모아서 한번에 변환 --------------------------------------------- DB SELECT (1), 새 장소 INSERT (배치)
+        List<DailyCourseDto> days = createDto.getDailyCourseDtoList();
+        List<FullBlockDto> allBlocks = new ArrayList<>();
+        for (DailyCourseDto day : days) {
+            if (day.getFullBlockDtoList() == null || day.getFullBlockDtoList().isEmpty()) {
+                throw new BadRequestException("fullBlockDtoList is empty (day " + day.getDailyCourseNum() + ")");
+            }
+            allBlocks.addAll(day.getFullBlockDtoList());
+        }
+        List<FullBlock> fullBlocks = fullBlockResolver.resolve(allBlocks);
+
+        FullCourse fullCourse = new FullCourse();
+        fullCourse.addFullCourse(createDto.getTitle(), member);
+
+        List<Integer> dailyNums = GapOrdering.keysFor(days.stream().map(DailyCourseDto::getDailyCourseNum).toList());
+        List<DailyCourse> dailyCourses = new ArrayList<>();
+        List<FullAndDailyCourseConnect> courseConnects = new ArrayList<>();
+        List<DailyBlockConnect> blockConnects = new ArrayList<>();
+
+        int blockIndex = 0;
+        for (int d = 0; d < days.size(); d++) {
+            DailyCourse dailyCourse = new DailyCourse();
+            dailyCourse.addDailyCourse(member);
+            dailyCourses.add(dailyCourse);
+
+            FullAndDailyCourseConnect connect = new FullAndDailyCourseConnect();
+            connect.createNewConnect(member, fullCourse, dailyCourse, dailyNums.get(d));
+            courseConnects.add(connect);
+
+            List<FullBlockDto> dayBlocks = days.get(d).getFullBlockDtoList();
+            List<Integer> blockNums = GapOrdering.keysFor(dayBlocks.stream().map(FullBlockDto::getBlockNum).toList());
+            for (int b = 0; b < dayBlocks.size(); b++) {
+                DailyBlockConnect blockConnect = new DailyBlockConnect();
+                blockConnect.createNewConnect(dailyCourse, fullBlocks.get(blockIndex++), blockNums.get(b));
+                blockConnects.add(blockConnect);
+            }
+        }
+
+        //--------------------------------------------------------------------------------------------DB INSERT (1)
+        FullCourse savedFullCourse = fullCourseRepository.save(fullCourse);
+        // 커밋시 테이블별 배치 INSERT ------------------------------------------------------------ DB INSERT (테이블당 50개당 1)
+        dailyCourseRepository.saveAll(dailyCourses);
+        fullBlockRepository.saveAll(fullBlocks);
+        dailyBlockConnectRepository.saveAll(blockConnects);
+        fullAndDailyCourseConnectRepository.saveAll(courseConnects);
+        // 일자별로 장소끼리 함께 추가된 수 증가 (커밋 이후, saveAll 로 일일일정 ID 부여된 뒤)
+        Map<Long, List<FullBlock>> dayFullBlocks = new LinkedHashMap<>();
+        int dayBlockIndex = 0;
+        for (int d = 0; d < days.size(); d++) {
+            int dayBlockCount = days.get(d).getFullBlockDtoList().size();
+            dayFullBlocks.put(dailyCourses.get(d).getDailyCourseId(), fullBlocks.subList(dayBlockIndex, dayBlockIndex + dayBlockCount));
+            dayBlockIndex += dayBlockCount;
+        }
+        placeCooccurrenceService.recordDays(dayFullBlocks);
+
+        log.info("전체일정 한번에 저장 : fullCourseId={}, days={}, blocks={}",
+                savedFullCourse.getFullCourseId(), days.size(), fullBlocks.size());
+        return savedFullCourse.getFullCourseId();
+    }
+
     /**제목 수정*/
+    @Transactional
     public void modifyTitle(FullCourseRequestDTO requestDTO){
         QFullCourse qFullCourse = QFullCourse.fullCourse;
 
@@ -106,96 +351,180 @@ public class FullCourseService {
             //404
             throw new EmptyTitleException("Title is empty");
         }
+        if (requestDTO.getVersion() == null) {
+            throw new BadRequestException("version is required");
+        }
 
+        // 조회한 버전일 때만 수정, 버전 증가 (벌크 UPDATE라 @Version 대신 직접 증가)
         long result = query.update(qFullCourse)
                 .set(qFullCourse.title, requestDTO.getTitle())
+                .set(qFullCourse.version, qFullCourse.version.add(1))
                 .where(
                         qFullCourse.fullCourseId.eq(requestDTO.getFullCourseId())
                         .and(qFullCourse.member.memberId.eq(requestDTO.getMemberId()))
+                        .and(qFullCourse.version.eq(requestDTO.getVersion()))
                 )
                 .execute();
 
         if(result == 0){
-            //500
-            throw new DataAccessFailException("FullCourse update failed");
+            throwVersionConflictOrNotFound(requestDTO.getFullCourseId(), requestDTO.getMemberId());
         }
-    }
 
-    /**전체일정 수정*/
-    public FullCourse modifyFullCourse(){
+        courseSnapshotCacheService.evictFullCourse(requestDTO.getFullCourseId());
+    }
 
+    /**
+     * 일자 이동 (드래그 앤 드롭)
+     * - afterDailyCourseId 일정 바로 뒤로 이동, null 이면 첫째 날로
+     * - 앞뒤 정렬 키(dailyNum) 사이 값으로 이동한 일자 1행만 UPDATE (사이 값이 없을 때만 전체 재배치)
+     */
+    @Transactional
+    public void moveDailyCourse(Long fullCourseId, Long memberId, Long dailyCourseId, Long afterDailyCourseId) {
+        QFullAndDailyCourseConnect qConnect = QFullAndDailyCourseConnect.fullAndDailyCourseConnect;
+
+        // 작성자 확인 + 버전 증가를 먼저 (전체일정 행 락, 동시 이동은 앞 트랜잭션 커밋 후의 순서를 읽도록) ---- DB UPDATE (1)
+        // 이동은 위치 기준이라 버전 확인 없이 반영, 제목/목록 수정과는 충돌 감지
+        increaseVersion(fullCourseId, memberId);
+
+        // 현재 순서 (정렬 키 인덱스 사용) ------------------------------------------------------------------ DB SELECT (1)
+        List<Tuple> stored = query.select(qConnect.fullDailyCourseConnectId, qConnect.dailyCourse.dailyCourseId, qConnect.dailyNum)
+                .from(qConnect)
+                .where(qConnect.fullCourse.fullCourseId.eq(fullCourseId))
+                .orderBy(qConnect.dailyNum.asc())
+                .fetch();
 
+        LinkedHashMap<Long, Integer> orderedKeys = new LinkedHashMap<>(); // dailyCourseId -> 정렬 키
+        Map<Long, Long> connectIds = new HashMap<>();                      // dailyCourseId -> 연결 ID
+        for (Tuple tuple : stored) {
+            Long storedDailyCourseId = tuple.get(qConnect.dailyCourse.dailyCourseId);
+            orderedKeys.put(storedDailyCourseId, tuple.get(qConnect.dailyNum));
+            connectIds.put(storedDailyCourseId, tuple.get(qConnect.fullDailyCourseConnectId));
+        }
 
-        return null;
-    }
+        Map<Long, Integer> changed = GapOrdering.move(orderedKeys, dailyCourseId, afterDailyCourseId);
+        if (changed == null) {
+            throw new BadRequestException("DailyCourse(" + dailyCourseId + ") cannot be moved after DailyCourse(" + afterDailyCourseId + ")");
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
 
+        // 보통 1행, 재배치시 CASE 한번 ------------------------------------------------------------------ DB UPDATE (1)
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = null;
+        for (Map.Entry<Long, Integer> entry : changed.entrySet()) {
+            BooleanExpression condition = qConnect.fullDailyCourseConnectId.eq(connectIds.get(entry.getKey()));
+            cases = (cases == null)
+                    ? new CaseBuilder().when(condition).then(entry.getValue())
+                    : cases.when(condition).then(entry.getValue());
+        }
+        List<Long> changedConnectIds = new ArrayList<>();
+        changed.keySet().forEach(id -> changedConnectIds.add(connectIds.get(id)));
 
+        query.update(qConnect)
+                .set(qConnect.dailyNum, cases.otherwise(qConnect.dailyNum))
+                .where(qConnect.fullDailyCourseConnectId.in(changedConnectIds))
+                .execute();
 
-    /**좋아요 설정*/
-    public void setFavorite(Long fullCourseId, Long memberId) {
+        courseSnapshotCacheService.evictFullCourse(fullCourseId);
+    }
 
-        QMember qMember = QMember.member;
+    // 작성자 확인 후 버전 증가 (확인 없이 증가, 작성자가 아니거나 없는 일정이면 404)
+    private void increaseVersion(Long fullCourseId, Long memberId) {
         QFullCourse qFullCourse = QFullCourse.fullCourse;
 
-        Tuple tuple = query.select(qMember, qFullCourse)
-                .from(qMember)
-                .join(qFullCourse).on(qFullCourse.fullCourseId.eq(fullCourseId))
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
-
-        if (tuple == null || tuple.get(qMember) == null || tuple.get(qFullCourse) == null) {
-            throw new AddReviewException("Member or FullCourse not found");
+        long updated = query.update(qFullCourse)
+                .set(qFullCourse.version, qFullCourse.version.add(1))
+                .where(qFullCourse.fullCourseId.eq(fullCourseId)
+                        .and(qFullCourse.member.memberId.eq(memberId)))
+                .execute();
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Full Course not found by ID(" + fullCourseId + ")");
         }
+    }
 
-        FullCourseFavorite fullCourseFavorite = new FullCourseFavorite();
-
-        fullCourseFavorite.addFavorite(
-                tuple.get(qMember),
-                tuple.get(qFullCourse)
-        );
+    // 수정 0행 : 작성자가 아니면 404, 버전이 다르면 409 (현재 버전 포함)
+    private void throwVersionConflictOrNotFound(Long fullCourseId, Long memberId) {
+        QFullCourse qFullCourse = QFullCourse.fullCourse;
 
-        try {
-            fullCourseFavoriteRepository.save(fullCourseFavorite);
-        } catch (Exception e) {
-            log.error("Failed to add FullCourseFavorite. ", e);
-            throw new AddFullCourseFavoriteException("Failed to save FullCourseFavorite");
+        Long currentVersion = query.select(qFullCourse.version)
+                .from(qFullCourse)
+                .where(qFullCourse.fullCourseId.eq(fullCourseId)
+                        .and(qFullCourse.member.memberId.eq(memberId)))
+                .fetchFirst();
+        if (currentVersion == null) {
+            throw new ResourceNotFoundException("Full Course not found by ID(" + fullCourseId + ")");
         }
+        throw new CourseVersionConflictException("Full Course(" + fullCourseId + ") was modified by another request", currentVersion);
+    }
+
+    /**전체일정 수정*/
+    public FullCourse modifyFullCourse(){
 
 
+
+        return null;
     }
 
-    /**스크랩 설정*/
-    public void setScrap(Long fullCourseId, Long memberId) {
 
-        QMember qMember = QMember.member;
-        QFullCourse qFullCourse = QFullCourse.fullCourse;
 
-        Tuple tuple = query.select(qMember, qFullCourse)
-                .from(qMember)
-                .join(qFullCourse).on(qFullCourse.fullCourseId.eq(fullCourseId))
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
+    /**좋아요 설정 (이미 좋아요한 일정이면 그대로 성공)*/
+    public void setFavorite(Long fullCourseId, Long memberId) {
+
+        // 사용자, 일정 존재 확인과 중복 확인은 DB가 (FK, 유니크 키) ---------------------------------------- DB INSERT (1)
+        int inserted;
+        try {
+            inserted = fullCourseFavoriteRepository.insertIgnore(memberId, fullCourseId);
+        } catch (DataAccessException e) {
+            log.error("Failed to add FullCourseFavorite. ", e);
+            throw new AddFullCourseFavoriteException("Failed to save FullCourseFavorite");
+        }
 
-        if (tuple == null || tuple.get(qMember) == null || tuple.get(qFullCourse) == null) {
-            throw new AddReviewException("Member or FullCourse not found");
+        if (inserted == 0) {
+            // 저장 안된 원인 확인 (중복 요청이면 성공 처리) ----------------------------------------------- DB SELECT (1)
+            if (!fullCourseFavoriteRepository.existsByMember_MemberIdAndFullCourse_FullCourseId(memberId, fullCourseId)) {
+                throw new ResourceNotFoundException("Member or FullCourse not found");
+            }
+            return;
         }
 
-        FullCourseScrap fullCourseScrap = new FullCourseScrap();
+        // 좋아요 수는 버퍼에 누적 후 주기적으로 배치 반영 (반영시 스냅샷 무효화)
+        courseCountBuffer.increment(CourseCountBuffer.Counter.FULL_FAVORITE, fullCourseId);
+        // 추천 랭킹(ZINCRBY), 사용자별 좋아요/스크랩 캐시 반영
+        courseRecommendService.increaseFullCourse(fullCourseId);
+        courseInteractionCacheService.add(CourseCountBuffer.Counter.FULL_FAVORITE, memberId, fullCourseId);
+        personalRecommendService.onInteraction(CourseRegionRankingService.CourseType.FULL, memberId, fullCourseId);
+    }
 
-        fullCourseScrap.addScrap(
-                tuple.get(qMember),
-                tuple.get(qFullCourse)
-        );
+    /**스크랩 설정 (이미 스크랩한 일정이면 그대로 성공)*/
+    public void setScrap(Long fullCourseId, Long memberId) {
 
+        // 사용자, 일정 존재 확인과 중복 확인은 DB가 (FK, 유니크 키) ---------------------------------------- DB INSERT (1)
+        int inserted;
         try {
-            fullCourseScrapRepository.save(fullCourseScrap);
-        } catch (Exception e) {
+            inserted = fullCourseScrapRepository.insertIgnore(memberId, fullCourseId);
+        } catch (DataAccessException e) {
             log.error("Failed to add FullCourseScrap. ", e);
             throw new AddFullCourseScrapException("Failed to save FullCourseScrap");
         }
+
+        if (inserted == 0) {
+            // 저장 안된 원인 확인 (중복 요청이면 성공 처리) ----------------------------------------------- DB SELECT (1)
+            if (!fullCourseScrapRepository.existsByMember_MemberIdAndFullCourse_FullCourseId(memberId, fullCourseId)) {
+                throw new ResourceNotFoundException("Member or FullCourse not found");
+            }
+            return;
+        }
+
+        // 스크랩 수는 버퍼에 누적 후 주기적으로 배치 반영 (반영시 스냅샷 무효화)
+        courseCountBuffer.increment(CourseCountBuffer.Counter.FULL_SCRAP, fullCourseId);
+        // 추천 랭킹(ZINCRBY), 사용자별 좋아요/스크랩 캐시 반영
+        courseRecommendService.increaseFullCourse(fullCourseId);
+        courseInteractionCacheService.add(CourseCountBuffer.Counter.FULL_SCRAP, memberId, fullCourseId);
+        personalRecommendService.onInteraction(CourseRegionRankingService.CourseType.FULL, memberId, fullCourseId);
     }
 
     /**좋아요한 전체일정 목록*/
+    @Transactional(readOnly = true)
     public List<FullCourseFavorite> getMyFavorites(Long memberId) {
         QFullCourseFavorite qFullCourseFavorite = QFullCourseFavorite.fullCourseFavorite;
 
@@ -212,6 +541,7 @@ public class FullCourseService {
     }
 
     /**스크랩한 전체일정 목로*/
+    @Transactional(readOnly = true)
     public List<FullCourseScrap> getMyScraps(Long memberId) {
         QFullCourseScrap qFullCourseScrap = QFullCourseScrap.fullCourseScrap;
 
@@ -1,7 +1,8 @@
 package com.travelock.server.service;
 
 import com.travelock.server.domain.MiddleBlock;
-import com.travelock.server.repository.MiddleBlockRepository;
+import com.travelock.server.dto.MiddleBlockDTO;
+import com.travelock.server.service.cache.ReferenceDictionary;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,16 +16,21 @@ import java.util.List;
 @Slf4j
 public class MiddleBlockService {
 
-    private final MiddleBlockRepository middleBlockRepository;
+    // 시드 데이터라 DB 대신 사전에서 조회
+    private final ReferenceDictionary referenceDictionary;
 
-    public List<MiddleBlock> getAllCategories() {
+    public List<MiddleBlockDTO> getAllCategories() {
         log.info("모든 카테고리 조회");
-        return middleBlockRepository.findAll();
+        return referenceDictionary.getCategories();
     }
 
-    public MiddleBlock getCategoryByCode(String categoryCode) {
+    public String getAllCategoriesETag() {
+        return referenceDictionary.getCategoriesETag();
+    }
+
+    public MiddleBlockDTO getCategoryByCode(String categoryCode) {
         log.info("카테고리 조회, categoryCode = {}", categoryCode);
-        return middleBlockRepository.findByCategoryCode(categoryCode);
+        return referenceDictionary.getCategory(categoryCode).orElse(null);
     }
 
     // data.sql 로 대체
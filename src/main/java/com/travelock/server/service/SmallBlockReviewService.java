@@ -15,6 +15,7 @@ import com.travelock.server.repository.SmallBlockReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -25,6 +26,7 @@ public class SmallBlockReviewService {
     private final JPAQueryFactory query;
     private final SmallBlockReviewRepository smallBlockReviewRepository;
 
+    @Transactional(readOnly = true)
     public List<SmallBlockReviewDto> getAllReviews(Long smallBlockId){
         QSmallBlockReview qSmallBlockReview = QSmallBlockReview.smallBlockReview;
 
@@ -44,6 +46,7 @@ public class SmallBlockReviewService {
         }
         return reviews;
     }
+    @Transactional(readOnly = true)
     public List<SmallBlockReviewDto> getMyReviews(Long memberId){
         QSmallBlockReview qSmallBlockReview = QSmallBlockReview.smallBlockReview;
 
@@ -64,6 +67,7 @@ public class SmallBlockReviewService {
 
         return reviews;
     }
+    @Transactional(readOnly = true)
     public SmallBlockReviewDto getReview(Long smallBlockReviewId){
         QSmallBlockReview qSmallBlockReview = QSmallBlockReview.smallBlockReview;
 
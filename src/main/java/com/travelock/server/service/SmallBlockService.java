@@ -4,10 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.travelock.server.domain.MiddleBlock;
 import com.travelock.server.domain.SmallBlock;
+import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
 import com.travelock.server.repository.MiddleBlockRepository;
 import com.travelock.server.repository.SmallBlockRepository;
+import com.travelock.server.service.cache.ReferenceDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,7 @@ public class SmallBlockService {
     // JSON 파싱
     private final ObjectMapper objectMapper;
     private final MiddleBlockRepository middleBlockRepository;
+    private final ReferenceDictionary referenceDictionary;
 
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
@@ -41,16 +46,18 @@ public class SmallBlockService {
 
         // API 호출
         ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-        System.out.println("API 호출 응답: " + response.getBody());
         // 응답 처리
         JsonNode jsonNode = objectMapper.readTree(response.getBody());
 //        List<JsonNode> documents = jsonNode.get("documents").findValues("documents");
         JsonNode documents = jsonNode.get("documents");
 
-        // 미들블록 id를 통해 middleblock을 가져옴
-        MiddleBlock middleBlock = middleBlockRepository.findById(middleBlockId)
-                .orElseThrow(() -> new Exception("MiddleBlock not found"));
+        // 미들블록은 사전으로 검증 후 참조만 사용 (DB 조회 없음)
+        if (referenceDictionary.getCategory(middleBlockId).isEmpty()) {
+            throw new ResourceNotFoundException("MiddleBlock not found");
+        }
+        MiddleBlock middleBlock = middleBlockRepository.getReferenceById(middleBlockId);
 
+        List<SmallBlock> smallBlocks = new ArrayList<>();
         for (JsonNode document : documents) {
             String placeId = document.get("id").asText();
             String placeName = document.get("place_name").asText();
@@ -58,27 +65,23 @@ public class SmallBlockService {
             String mapY = document.get("y").asText();
             String placeUrl = document.get("place_url").asText();
 
-            // 스몰블록 생성 또는 업데이트
-            SmallBlock smallBlock = smallBlockRepository.findByPlaceId(placeId)
-                    .orElseGet(() -> {
-                        SmallBlock newSmallBlock = new SmallBlock();
-                        newSmallBlock.setSmallBlockData(middleBlock, placeId, placeName, mapX, mapY, placeUrl);
-                        return smallBlockRepository.save(newSmallBlock);
-                    });
-
-            // 이미 존재하는 스몰블록일 경우 레퍼 카운트 증가
-            smallBlock.incrementReferenceCount();
-            smallBlockRepository.save(smallBlock);
+            SmallBlock smallBlock = new SmallBlock();
+            smallBlock.setSmallBlockData(middleBlock, placeId, placeName, mapX, mapY, placeUrl);
+            smallBlocks.add(smallBlock);
         }
 
+        // 스몰블록 생성 또는 장소 정보 갱신 (페이지 전체를 배치 1번으로) ---------------------------------- DB UPSERT ( 1 )
+        smallBlockRepository.bulkUpsert(smallBlocks);
     }
 
-    // 전체 스몰블록 조회
+    // 전체 스몰블록 조회 (참조 수 높은 순)
+    @Transactional(readOnly = true)
     public List<SmallBlock> getAllSmallBlocks() {
-        return smallBlockRepository.findAll();
+        return smallBlockRepository.findAll(Sort.by(Sort.Order.desc("referenceCount"), Sort.Order.desc("smallBlockId")));
     }
 
     // 특정 스몰블록 조회 (id로)
+    @Transactional(readOnly = true)
     public SmallBlock getSmallBlockById(Long id) {
         Optional<SmallBlock> smallBlock = smallBlockRepository.findById(id);
         return smallBlock.orElseThrow(() -> new RuntimeException("스몰 블록을 찾을 수 없음."));
@@ -1,39 +1,44 @@
 package com.travelock.server.service;
 
-import com.travelock.server.domain.BigBlock;
-import com.travelock.server.domain.State;
-import com.travelock.server.repository.BigBlockRepository;
-import com.travelock.server.repository.StateRepository;
+import com.travelock.server.dto.BigBlockDTO;
+import com.travelock.server.dto.StateDTO;
+import com.travelock.server.service.cache.ReferenceDictionary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StateService {
-    private final StateRepository stateRepository;
-    private final BigBlockRepository bigBlockRepository;
+    // 시드 데이터라 DB 대신 사전에서 조회
+    private final ReferenceDictionary referenceDictionary;
 
     // 전체 시,도 목록 조회하기
-    public List<State> getAllStates() {
+    public List<StateDTO> getAllStates() {
         log.info("모든 states 호출");
-        return stateRepository.findAll();
+        return referenceDictionary.getStates();
     }
 
     // 특정 시/도의 시,구 목록 조회
-    public List<BigBlock> getCitiesByState(String stateCode) {
+    public List<BigBlockDTO> getCitiesByState(String stateCode) {
         log.info("getCitiesByState 호출, stateCode: {}", stateCode);
-        State state = stateRepository.findByStateCode(stateCode);
-        if (state != null) {
-            return bigBlockRepository.findByState(state);
+        List<BigBlockDTO> cities = referenceDictionary.getCities(stateCode);
+        if (cities.isEmpty()) {
+            log.warn("State not found for stateCode: {}", stateCode);
         }
-        log.warn("State not found for stateCode: {}", stateCode);
-        return new ArrayList<>();
+        return cities;
+    }
 
+    // 전체 시,도 목록 ETag
+    public String getAllStatesETag() {
+        return referenceDictionary.getStatesETag();
     }
-}
 
+    // 특정 시/도의 시,구 목록 ETag
+    public String getCitiesByStateETag(String stateCode) {
+        return referenceDictionary.getCitiesETag(stateCode);
+    }
+}
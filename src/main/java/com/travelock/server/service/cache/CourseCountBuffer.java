@@ -0,0 +1,308 @@
+package com.travelock.server.service.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전체/일일일정 좋아요, 스크랩 수 write-behind 버퍼
+ * - 좋아요/스크랩마다 일정 행을 UPDATE 하면 인기 일정 행에 락이 몰림
+ * - 일정 ID별 LongAdder에 누적하고 주기적으로(그리고 종료시) 더한 값만큼 배치 UPDATE
+ * - 카운터별 배치 UPDATE는 별도 트랜잭션 1개 (일부 행만 반영된 채로 재시도/되돌림 되지 않도록 실패하면 전체 롤백)
+ * - 동시성 실패(락 대기 초과, 데드락)는 제한 횟수 재시도, 그래도 실패하면 버퍼로 되돌려 다음 flush에서 반영
+ * - 반영된 일정은 스냅샷 캐시 무효화 (응답, ETag에 바뀐 수 반영), 일일일정은 포함한 전체일정 스냅샷도 무효화
+ * - 매일 관계 테이블 기준으로 수를 다시 계산 (재시작으로 유실된 값, 중복 반영 보정), 인스턴스 중 하나만 수행
+ */
+@Service
+@Slf4j
+public class CourseCountBuffer {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MILLIS = 20;
+    private static final int IN_CHUNK_SIZE = 1000;
+    // 재계산 락 (해제하지 않고 만료시킴, 시각이 조금 다른 인스턴스가 같은 날 다시 수행하지 않도록)
+    private static final String REPAIR_LOCK_KEY = "course:count-repair-lock";
+    private static final Duration REPAIR_LOCK_TTL = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final CourseSnapshotCacheService courseSnapshotCacheService;
+    private final Timer flushTimer;
+
+    // 증가, 제거는 키 단위 compute로 원자적으로 수행 (제거와 증가가 겹쳐 값이 유실되지 않도록)
+    // flush 사이에 증가가 없었던 키는 flush에서 제거
+    private final Map<Counter, ConcurrentHashMap<Long, LongAdder>> pending = new EnumMap<>(Counter.class);
+
+    public CourseCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             RedisTemplate<String, String> stringRedisTemplate,
+                             CourseSnapshotCacheService courseSnapshotCacheService, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.courseSnapshotCacheService = courseSnapshotCacheService;
+        for (Counter counter : Counter.values()) {
+            pending.put(counter, new ConcurrentHashMap<>());
+        }
+        this.flushTimer = Timer.builder("course.count.flush")
+                .description("좋아요/스크랩 수 버퍼 flush 시간")
+                .register(meterRegistry);
+        Gauge.builder("course.count.pending", this, CourseCountBuffer::pendingDelta)
+                .description("DB에 반영되지 않은 좋아요/스크랩 수 합계")
+                .register(meterRegistry);
+    }
+
+
+    /**카운터 종류 (테이블, 컬럼)*/
+    @RequiredArgsConstructor
+    public enum Counter {
+        FULL_FAVORITE("full_course", "full_course_id", "favorite_count", "full_course_favorite"),
+        FULL_SCRAP("full_course", "full_course_id", "scarp_count", "full_course_scrap"),
+        DAILY_FAVORITE("daily_course", "daily_course_id", "favorite_count", "daily_course_favorite"),
+        DAILY_SCRAP("daily_course", "daily_course_id", "scarp_count", "daily_course_scrap");
+
+        private final String table;
+        private final String idColumn;
+        private final String countColumn;
+        private final String relationTable;
+
+        private String updateSql() {
+            return "UPDATE " + table + " SET " + countColumn + " = " + countColumn + " + ? WHERE " + idColumn + " = ?";
+        }
+
+        private String relationCount() {
+            return "(SELECT COUNT(*) FROM " + relationTable + " r WHERE r." + idColumn + " = c." + idColumn + ")";
+        }
+
+        // 관계 테이블 기준 수가 다른 일정 ID (락 없이 조회)
+        private String mismatchSql() {
+            return "SELECT c." + idColumn + " FROM " + table + " c WHERE c." + countColumn + " <> " + relationCount();
+        }
+
+        // 관계 테이블 기준 재계산 (수가 다른 일정만)
+        private String repairSql(int size) {
+            return "UPDATE " + table + " c SET c." + countColumn + " = " + relationCount()
+                    + " WHERE c." + idColumn + " IN (" + placeholders(size) + ")";
+        }
+
+        private boolean isFullCourse() {
+            return "full_course".equals(table);
+        }
+    }
+
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 누적 (롤백된 좋아요/스크랩은 세지 않음)
+    public void increment(Counter counter, Long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(counter, courseId, 1);
+                }
+            });
+        } else {
+            add(counter, courseId, 1);
+        }
+    }
+
+    public long pendingDelta() {
+        long sum = 0;
+        for (Map<Long, LongAdder> adders : pending.values()) {
+            for (LongAdder adder : adders.values()) {
+                sum += adder.sum();
+            }
+        }
+        return sum;
+    }
+
+    @Scheduled(fixedDelayString = "${application.course.count-flush-interval:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 정상 종료시 남은 값 반영 (JdbcTemplate보다 먼저 소멸됨)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long remaining = pendingDelta();
+        if (remaining > 0) {
+            log.error("종료시 좋아요/스크랩 수 반영 실패 : {}건 (다음 재계산에서 보정)", remaining);
+        }
+    }
+
+    public synchronized void flush() {
+        Set<Long> flushedFullCourseIds = new HashSet<>();
+        Set<Long> flushedDailyCourseIds = new HashSet<>();
+
+        for (Counter counter : Counter.values()) {
+            ConcurrentHashMap<Long, LongAdder> adders = pending.get(counter);
+
+            // 값만 꺼내고 0으로 초기화 (꺼낸 뒤 들어온 증가는 다음 flush에서 반영)
+            Map<Long, Long> deltas = new TreeMap<>(); // id 순서로 UPDATE 해서 행 락 순서를 고정
+            List<Long> idleIds = new ArrayList<>();
+            adders.forEach((courseId, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    deltas.put(courseId, delta);
+                } else {
+                    idleIds.add(courseId);
+                }
+            });
+            // 지난 flush 이후 증가가 없던 키 제거 (그 사이 증가가 있었으면 유지)
+            idleIds.forEach(courseId -> adders.computeIfPresent(courseId, (id, adder) -> adder.sum() == 0 ? null : adder));
+
+            if (deltas.isEmpty()) {
+                continue;
+            }
+
+            List<Map.Entry<Long, Long>> rows = new ArrayList<>(deltas.entrySet());
+            if (updateWithRetry(counter, rows)) {
+                (counter.isFullCourse() ? flushedFullCourseIds : flushedDailyCourseIds).addAll(deltas.keySet());
+            } else {
+                rows.forEach(row -> add(counter, row.getKey(), row.getValue()));
+            }
+        }
+
+        evictSnapshots(flushedFullCourseIds, flushedDailyCourseIds);
+    }
+
+    /**
+     * 관계 테이블 기준 좋아요/스크랩 수 재계산
+     * - 버퍼를 먼저 반영한 뒤 수행 (flush와 동시에 돌지 않도록 같은 락 사용)
+     * - 재계산 중 들어온 좋아요는 다음 flush에서 한번 더 더해질 수 있음 (다음 재계산에서 보정)
+     * - 수가 다른 일정만 골라서 UPDATE, 보정된 일정은 스냅샷 무효화
+     * - 모든 인스턴스에서 스케줄되므로 Redis 락(SET NX)을 얻은 인스턴스만 수행, Redis 장애시 건너뜀
+     */
+    @Scheduled(cron = "${application.course.count-repair-cron:0 30 4 * * *}")
+    public synchronized void repair() {
+        flush();
+
+        try {
+            // ------------------------------------------------------------------------------------- REDIS SET NX (1)
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(REPAIR_LOCK_KEY, "1", REPAIR_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("좋아요/스크랩 수 재계산은 다른 인스턴스에서 수행");
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("좋아요/스크랩 수 재계산 락 획득 실패, 건너뜀", e);
+            return;
+        }
+
+        Set<Long> repairedFullCourseIds = new HashSet<>();
+        Set<Long> repairedDailyCourseIds = new HashSet<>();
+        for (Counter counter : Counter.values()) {
+            try {
+                // ---------------------------------------------------------------------------- DB SELECT (카운터당 1)
+                List<Long> courseIds = jdbcTemplate.queryForList(counter.mismatchSql(), Long.class);
+                // ------------------------------------------------------------------------ DB UPDATE (1000개당 1)
+                for (int from = 0; from < courseIds.size(); from += IN_CHUNK_SIZE) {
+                    List<Long> chunk = courseIds.subList(from, Math.min(from + IN_CHUNK_SIZE, courseIds.size()));
+                    jdbcTemplate.update(counter.repairSql(chunk.size()), chunk.toArray());
+                    (counter.isFullCourse() ? repairedFullCourseIds : repairedDailyCourseIds).addAll(chunk);
+                }
+                if (!courseIds.isEmpty()) {
+                    log.warn("{} 재계산 : {}개 일정 보정", counter, courseIds.size());
+                }
+            } catch (DataAccessException e) {
+                log.error("{} 재계산 실패", counter, e);
+            }
+        }
+
+        evictSnapshots(repairedFullCourseIds, repairedDailyCourseIds);
+    }
+
+    // 일일일정 수는 포함한 전체일정 스냅샷에도 들어가므로 함께 무효화
+    private void evictSnapshots(Set<Long> fullCourseIds, Set<Long> dailyCourseIds) {
+        Set<Long> evictFullCourseIds = new HashSet<>(fullCourseIds);
+        evictFullCourseIds.addAll(selectFullCourseIds(dailyCourseIds));
+
+        evictFullCourseIds.forEach(courseSnapshotCacheService::evictFullCourse);
+        dailyCourseIds.forEach(courseSnapshotCacheService::evictDailyCourse);
+    }
+
+    // 일일일정을 포함한 전체일정 ID ----------------------------------------------------------------- DB SELECT (1000개당 1)
+    private Set<Long> selectFullCourseIds(Set<Long> dailyCourseIds) {
+        Set<Long> fullCourseIds = new HashSet<>();
+        List<Long> ids = new ArrayList<>(dailyCourseIds);
+        try {
+            for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+                fullCourseIds.addAll(jdbcTemplate.queryForList(
+                        "SELECT DISTINCT full_course_id FROM full_and_daily_course_connect WHERE daily_course_id IN (" + placeholders(chunk.size()) + ")",
+                        Long.class, chunk.toArray()));
+            }
+        } catch (DataAccessException e) {
+            // 전체일정 스냅샷은 최대 TTL 동안 이전 수로 조회될 수 있음
+            log.error("일일일정을 포함한 전체일정 조회 실패 : {}개 일일일정", ids.size(), e);
+        }
+        return fullCourseIds;
+    }
+
+    private static String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    private boolean updateWithRetry(Counter counter, List<Map.Entry<Long, Long>> rows) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // 실패하면 배치 전체가 롤백되므로 재시도/되돌림해도 두번 더해지지 않음 ------------------ DB UPDATE (배치 1)
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(counter.updateSql(), rows, rows.size(), (ps, row) -> {
+                            ps.setLong(1, row.getValue());
+                            ps.setLong(2, row.getKey());
+                        })));
+                log.debug("{} flush : {}개 일정", counter, rows.size());
+                return true;
+            } catch (ConcurrencyFailureException e) {
+                // 트랜잭션이 롤백된 뒤라 반영된 행이 없음, 같은 값으로 재시도
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("{} flush 충돌, 버퍼로 되돌림 : {}개 일정 ({}회 시도)", counter, rows.size(), attempt, e);
+                    return false;
+                }
+                log.warn("{} flush 충돌, 재시도 ({}회)", counter, attempt);
+                sleep(BACKOFF_MILLIS * attempt + ThreadLocalRandom.current().nextLong(BACKOFF_MILLIS));
+            } catch (DataAccessException e) {
+                log.error("{} flush 실패, 버퍼로 되돌림 : {}개 일정", counter, rows.size(), e);
+                return false;
+            }
+        }
+    }
+
+    private void add(Counter counter, Long courseId, long delta) {
+        pending.get(counter).compute(courseId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.travelock.server.service.cache;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.QDailyCourseFavorite;
+import com.travelock.server.domain.QDailyCourseScrap;
+import com.travelock.server.domain.QFullCourseFavorite;
+import com.travelock.server.domain.QFullCourseScrap;
+import com.travelock.server.dto.CourseInteractionDTO;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
+import com.travelock.server.service.cache.CourseCountBuffer.Counter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 좋아요/스크랩한 일정 ID 캐시 (목록 카드의 좋아요/스크랩 표시용)
+ * - key : interaction:{full|daily}_{favorite|scrap}:{memberId}, Redis SET (일정 ID)
+ * - 로딩 완료 표시(LOADED) 원소가 없으면 DB에서 다시 채움 (SADD로 먼저 생긴 키도 마찬가지)
+ * - 조회는 종류별 SMISMEMBER 1번, Redis 장애시 요청한 ID만 DB 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseInteractionCacheService {
+    private final JPAQueryFactory query;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private static final String KEY_BASE = "interaction:";
+    private static final String LOADED = "loaded";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    @Value("${application.course.max-batch-size:30}")
+    private int maxBatchSize;
+
+
+    /**
+     * 일정 ID 목록에 대한 좋아요/스크랩 여부
+     * - favorited, scrapped : courseIds 순서대로 '1'(했음) / '0'(안함) 문자열
+     */
+    public CourseInteractionDTO getFullCourseInteractions(Long memberId, List<Long> courseIds) {
+        return getInteractions(Counter.FULL_FAVORITE, Counter.FULL_SCRAP, memberId, courseIds);
+    }
+
+    public CourseInteractionDTO getDailyCourseInteractions(Long memberId, List<Long> courseIds) {
+        return getInteractions(Counter.DAILY_FAVORITE, Counter.DAILY_SCRAP, memberId, courseIds);
+    }
+
+    /**courseIds 중 사용자가 좋아요 또는 스크랩한 일정 ID (개수 제한 없음, 추천 후보 제외용)*/
+    public Set<Long> getInteractedCourseIds(Counter favorite, Counter scrap, Long memberId, List<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Long> interacted = getMemberCourseIds(favorite, memberId, courseIds);
+        interacted.addAll(getMemberCourseIds(scrap, memberId, courseIds));
+        return interacted;
+    }
+
+    // 좋아요/스크랩 저장 후 캐시에 추가 (없는 키면 다음 조회시 DB에서 다시 채워짐)
+    public void add(Counter counter, Long memberId, Long courseId) {
+        String key = keyOf(counter, memberId);
+        try {
+            stringRedisTemplate.opsForSet().add(key, String.valueOf(courseId));
+            stringRedisTemplate.expire(key, TTL);
+        } catch (DataAccessException e) {
+            // 추가 실패시 다음 로딩까지 표시 누락 가능 -> 키 삭제 시도
+            log.warn("좋아요/스크랩 캐시 추가 실패 : {}", key, e);
+            evict(key);
+        }
+    }
+
+
+    private CourseInteractionDTO getInteractions(Counter favorite, Counter scrap, Long memberId, List<Long> courseIds) {
+        if (memberId == null || courseIds == null || courseIds.isEmpty()) {
+            throw new BadRequestException("memberId, courseIds are required");
+        }
+        if (courseIds.size() > maxBatchSize) {
+            throw new BadRequestException("Too many courseIds (max " + maxBatchSize + ")");
+        }
+
+        Set<Long> favorited = getMemberCourseIds(favorite, memberId, courseIds);
+        Set<Long> scrapped = getMemberCourseIds(scrap, memberId, courseIds);
+        return new CourseInteractionDTO(courseIds, toBits(courseIds, favorited), toBits(courseIds, scrapped));
+    }
+
+    // courseIds 중 사용자가 좋아요/스크랩한 ID
+    private Set<Long> getMemberCourseIds(Counter counter, Long memberId, List<Long> courseIds) {
+        String key = keyOf(counter, memberId);
+
+        Object[] members = new Object[courseIds.size() + 1];
+        members[0] = LOADED;
+        for (int i = 0; i < courseIds.size(); i++) {
+            members[i + 1] = String.valueOf(courseIds.get(i));
+        }
+
+        try {
+            // ------------------------------------------------------------------------------------- REDIS SMISMEMBER (1)
+            Map<Object, Boolean> result = stringRedisTemplate.opsForSet().isMember(key, members);
+            if (result != null && Boolean.TRUE.equals(result.get(LOADED))) {
+                Set<Long> found = new HashSet<>();
+                for (Long courseId : courseIds) {
+                    if (Boolean.TRUE.equals(result.get(String.valueOf(courseId)))) {
+                        found.add(courseId);
+                    }
+                }
+                return found;
+            }
+        } catch (DataAccessException e) {
+            log.warn("좋아요/스크랩 캐시 조회 실패, DB 조회 : {}", key, e);
+            return new HashSet<>(selectCourseIds(counter, memberId, courseIds));
+        }
+
+        // 캐시 미스 : 사용자의 전체 목록을 채우고 메모리에서 확인 ------------------------------------------ DB SELECT (1)
+        List<Long> allCourseIds = selectCourseIds(counter, memberId, null);
+        load(key, allCourseIds);
+
+        Set<Long> found = new HashSet<>(allCourseIds);
+        found.retainAll(courseIds);
+        return found;
+    }
+
+    private void load(String key, List<Long> courseIds) {
+        String[] values = new String[courseIds.size() + 1];
+        values[0] = LOADED;
+        for (int i = 0; i < courseIds.size(); i++) {
+            values[i + 1] = String.valueOf(courseIds.get(i));
+        }
+        try {
+            stringRedisTemplate.opsForSet().add(key, values);
+            stringRedisTemplate.expire(key, TTL);
+        } catch (DataAccessException e) {
+            log.warn("좋아요/스크랩 캐시 저장 실패 : {}", key, e);
+        }
+    }
+
+    // courseIds가 null이면 사용자의 전체 목록
+    private List<Long> selectCourseIds(Counter counter, Long memberId, Collection<Long> courseIds) {
+        switch (counter) {
+            case FULL_FAVORITE -> {
+                QFullCourseFavorite q = QFullCourseFavorite.fullCourseFavorite;
+                return query.select(q.fullCourse.fullCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId), courseIds == null ? null : q.fullCourse.fullCourseId.in(courseIds))
+                        .fetch();
+            }
+            case FULL_SCRAP -> {
+                QFullCourseScrap q = QFullCourseScrap.fullCourseScrap;
+                return query.select(q.fullCourse.fullCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId), courseIds == null ? null : q.fullCourse.fullCourseId.in(courseIds))
+                        .fetch();
+            }
+            case DAILY_FAVORITE -> {
+                QDailyCourseFavorite q = QDailyCourseFavorite.dailyCourseFavorite;
+                return query.select(q.dailyCourse.dailyCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId), courseIds == null ? null : q.dailyCourse.dailyCourseId.in(courseIds))
+                        .fetch();
+            }
+            default -> {
+                QDailyCourseScrap q = QDailyCourseScrap.dailyCourseScrap;
+                return query.select(q.dailyCourse.dailyCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId), courseIds == null ? null : q.dailyCourse.dailyCourseId.in(courseIds))
+                        .fetch();
+            }
+        }
+    }
+
+    private String toBits(List<Long> courseIds, Set<Long> flagged) {
+        StringBuilder bits = new StringBuilder(courseIds.size());
+        for (Long courseId : courseIds) {
+            bits.append(flagged.contains(courseId) ? '1' : '0');
+        }
+        return bits.toString();
+    }
+
+    private void evict(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.error("좋아요/스크랩 캐시 삭제 실패 (최대 TTL 동안 표시 누락 가능) : {}", key, e);
+        }
+    }
+
+    private String keyOf(Counter counter, Long memberId) {
+        return KEY_BASE + counter.name().toLowerCase() + ":" + memberId;
+    }
+}
@@ -1,112 +1,285 @@
-//package com.travelock.server.service.cache;
-//
-//import com.fasterxml.jackson.core.type.TypeReference;
-//import com.fasterxml.jackson.databind.ObjectMapper;
-//import com.querydsl.jpa.impl.JPAQueryFactory;
-//import com.travelock.server.domain.*;
-//import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.data.redis.core.RedisTemplate;
-//import org.springframework.scheduling.annotation.Scheduled;
-//import org.springframework.stereotype.Service;
-//
-//import java.util.List;
-//
-//@Service
-//@RequiredArgsConstructor
-//@Slf4j
-//public class CourseRecommendService {
-//
-//    private final JPAQueryFactory query;
-//    private final RedisTemplate<String, Object> jsonRedisTemplate;
-//    private final ObjectMapper objectMapper = new ObjectMapper(); // ObjectMapper 사용
-//
-//    private static final String REDIS_FULL_KEY = "popular:full";
-//    private static final String REDIS_DAILY_KEY = "popular:daily";
-//
-//    // 매일 자정에 좋아요와 스크랩 수가 높은 FullCourse 캐싱
-//    @Scheduled(cron = "0 0 0 * * ?")
-//    // FullCourse 상위 10개 조회 및 Redis에 캐싱
-//    public void updateTopFullCourses() {
-//        try {
-//            QFullCourse qFullCourse = QFullCourse.fullCourse;
-//            QFullCourseFavorite qFullCourseFavorite = QFullCourseFavorite.fullCourseFavorite;
-//            QFullCourseScrap qFullCourseScrap = QFullCourseScrap.fullCourseScrap;
-//
-//            // 좋아요와 스크랩 수가 높은 상위 10개 조회
-//            List<FullCourse> topFullCourses = query
-//                    .select(qFullCourse)
-//                    .from(qFullCourse)
-//                    .leftJoin(qFullCourseFavorite).on(qFullCourseFavorite.fullCourse.eq(qFullCourse))
-//                    .leftJoin(qFullCourseScrap).on(qFullCourseScrap.fullCourse.eq(qFullCourse))
-//                    .groupBy(qFullCourse.fullCourseId)
-//                    .orderBy(qFullCourseFavorite.count().add(qFullCourseScrap.count()).desc()) // 좋아요와 스크랩 수를 합산하여 정렬
-//                    .limit(10) // 상위 10개만 조회
-//                    .fetch();
-//
-//            // Redis에 캐싱
-//            jsonRedisTemplate.opsForValue().set(REDIS_FULL_KEY, topFullCourses);
-//        } catch (Exception e) {
-//            log.error("전체일정 캐시 실패{}", e);
-//        }
-//    }
-//
-//    // Redis에서 캐싱된 FullCourse 리스트를 가져오기
-//    public List<FullCourse> getTopFullCoursesFromCache() {
-//        Object cachedData = jsonRedisTemplate.opsForValue().get(REDIS_FULL_KEY);
-//        if (cachedData == null) {
-//            throw new ResourceNotFoundException("추천 전체일정을 찾을 수 없습니다.");
-//        }
-//        // 안전한 타입 변환을 위해 ObjectMapper 사용하여 JSON 역직렬화
-//        try {
-//            return objectMapper.convertValue(cachedData, new TypeReference<List<FullCourse>>() {
-//            });
-//        } catch (IllegalArgumentException e) {
-//            // 변환 중 예외 발생 시 처리
-//            throw new RuntimeException("캐시 데이터를 변환하는 데 실패했습니다.", e);
-//        }
-//    }
-//
-//    // 매일 01시에 좋아요와 스크랩 수가 높은 DailyCourse 캐싱
-//    @Scheduled(cron = "0 0 1 * * ?")
-//    // DailyCourse 상위 10개 조회 및 Redis에 캐싱
-//    public void updateTopDailyCourses() {
-//        try {
-//            QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
-//            QDailyCourseFavorite qDailyCourseFavorite = QDailyCourseFavorite.dailyCourseFavorite;
-//            QDailyCourseScrap qDailyCourseScrap = QDailyCourseScrap.dailyCourseScrap;
-//
-//            // 좋아요와 스크랩 수가 높은 상위 10개 조회
-//            List<DailyCourse> topDailyCourses = query
-//                    .select(qDailyCourse)
-//                    .from(qDailyCourse)
-//                    .leftJoin(qDailyCourseFavorite).on(qDailyCourseFavorite.dailyCourse.eq(qDailyCourse))
-//                    .leftJoin(qDailyCourseScrap).on(qDailyCourseScrap.dailyCourse.eq(qDailyCourse))
-//                    .groupBy(qDailyCourse.dailyCourseId)
-//                    .orderBy(qDailyCourseFavorite.count().add(qDailyCourseScrap.count()).desc()) // 좋아요와 스크랩 수를 합산하여 정렬
-//                    .limit(10) // 상위 10개만 조회
-//                    .fetch();
-//
-//            // Redis에 캐싱
-//            jsonRedisTemplate.opsForValue().set(REDIS_DAILY_KEY, topDailyCourses);
-//        } catch (Exception e) {
-//            log.error("일일일정 캐시 실패 {}", e);
-//        }
-//    }
-//
-//    // Redis에서 캐싱된 DailyCourse 리스트를 가져오기
-//    public List<DailyCourse> getTopDailyCoursesFromCache() {
-//        Object cachedData = jsonRedisTemplate.opsForValue().get(REDIS_DAILY_KEY);
-//        if (cachedData == null) {
-//            throw new ResourceNotFoundException("추천 일일일정을 찾을 수 없습니다.");
-//        }
-//        try {
-//            return objectMapper.convertValue(cachedData, new TypeReference<List<DailyCourse>>() {
-//            });
-//        } catch (IllegalArgumentException e) {
-//            // 변환 중 예외 발생 시 처리
-//            throw new RuntimeException("캐시 데이터를 변환하는 데 실패했습니다.", e);
-//        }
-//    }
-//}
\ No newline at end of file
+package com.travelock.server.service.cache;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.QDailyCourse;
+import com.travelock.server.domain.QFullCourse;
+import com.travelock.server.util.HotScore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 추천(인기) 일정 랭킹
+ * - key : popular:{full|daily}, Redis ZSET (member : 일정 ID, score : 좋아요 + 스크랩 수)
+ * - 좋아요/스크랩마다 ZINCRBY 1, 조회는 ZREVRANGE 상위 K개 (실시간 반영)
+ * - 매일 DB의 좋아요/스크랩 수 기준 상위 N개로 다시 만들어서 어긋난 값, 쌓인 하위 일정 정리
+ * - Redis 장애시 DB에서 바로 상위 K개 조회
+ * - 최근 인기(hot) 랭킹 : hot:{full|daily}, 반감기 감쇠 점수를 log 공간에 저장 (HotScore)
+ *   이벤트마다 해당 일정 점수만 읽어서 HotScore.add 로 합친 값을 compare-and-set (전체 재계산 없음), 매일 상위 N개만 남김
+ * - 지역/카테고리 필터 랭킹은 CourseRegionRankingService (같은 점수로 구역별 ZSET)
+ * - 사용자별 추천은 PersonalRecommendService (미리 계산된 목록, 없으면 전체 랭킹)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseRecommendService {
+
+    private final JPAQueryFactory query;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final CourseRegionRankingService courseRegionRankingService;
+    private final PersonalRecommendService personalRecommendService;
+
+    private static final String REDIS_FULL_KEY = "popular:full";
+    private static final String REDIS_DAILY_KEY = "popular:daily";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String HOT_FULL_KEY = "hot:full";
+    private static final String HOT_DAILY_KEY = "hot:daily";
+
+    private static final int HOT_MAX_ATTEMPTS = 5;
+
+    // 점수 계산은 Java(HotScore)에서만, Redis는 읽은 값이 그대로일 때만 새 값 저장 (compare-and-set)
+    // KEYS[1] : 최근 인기 랭킹, ARGV[1] : 일정 ID, ARGV[2] : 읽은 값 (없었으면 빈 문자열), ARGV[3] : 새 값
+    private static final RedisScript<Long> HOT_COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "if (not current and ARGV[2] == '') " +
+            "    or (current and ARGV[2] ~= '' and tonumber(current) == tonumber(ARGV[2])) then " +
+            "  redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    @Value("${application.course.recommend-size:10}")
+    private int recommendSize;
+
+    @Value("${application.course.ranking-size:1000}")
+    private int rankingSize;
+
+    @Value("${application.course.hot-half-life-hours:72}")
+    private long hotHalfLifeHours;
+
+    private HotScore hotScore;
+
+    @PostConstruct
+    public void initHotScore() {
+        hotScore = new HotScore(Duration.ofHours(hotHalfLifeHours));
+    }
+
+
+    /**좋아요/스크랩 발생시 랭킹 점수 증가*/
+    public void increaseFullCourse(Long fullCourseId) {
+        increase(REDIS_FULL_KEY, fullCourseId);
+        increaseHot(HOT_FULL_KEY, fullCourseId);
+        courseRegionRankingService.increase(CourseRegionRankingService.CourseType.FULL, fullCourseId);
+    }
+
+    public void increaseDailyCourse(Long dailyCourseId) {
+        increase(REDIS_DAILY_KEY, dailyCourseId);
+        increaseHot(HOT_DAILY_KEY, dailyCourseId);
+        courseRegionRankingService.increase(CourseRegionRankingService.CourseType.DAILY, dailyCourseId);
+    }
+
+    /**추천 전체일정 ID (점수 높은 순, 지역/카테고리 필터가 없으면 전체 랭킹)*/
+    public List<Long> getTopFullCourseIds(String stateCode, String cityCode, String category) {
+        if (stateCode == null && cityCode == null && category == null) {
+            return getTopIds(REDIS_FULL_KEY);
+        }
+        return courseRegionRankingService.getTopIds(CourseRegionRankingService.CourseType.FULL, stateCode, cityCode, category);
+    }
+
+    /**추천 일일일정 ID (점수 높은 순, 지역/카테고리 필터가 없으면 전체 랭킹)*/
+    public List<Long> getTopDailyCourseIds(String stateCode, String cityCode, String category) {
+        if (stateCode == null && cityCode == null && category == null) {
+            return getTopIds(REDIS_DAILY_KEY);
+        }
+        return courseRegionRankingService.getTopIds(CourseRegionRankingService.CourseType.DAILY, stateCode, cityCode, category);
+    }
+
+    /**사용자 추천 전체일정 ID (미리 계산된 목록이 없으면 전체 랭킹)*/
+    public List<Long> getPersonalFullCourseIds(Long memberId) {
+        List<Long> ids = personalRecommendService.getCourseIds(CourseRegionRankingService.CourseType.FULL, memberId);
+        return ids.isEmpty() ? getTopIds(REDIS_FULL_KEY) : ids;
+    }
+
+    /**사용자 추천 일일일정 ID (미리 계산된 목록이 없으면 전체 랭킹)*/
+    public List<Long> getPersonalDailyCourseIds(Long memberId) {
+        List<Long> ids = personalRecommendService.getCourseIds(CourseRegionRankingService.CourseType.DAILY, memberId);
+        return ids.isEmpty() ? getTopIds(REDIS_DAILY_KEY) : ids;
+    }
+
+    /**최근 인기 전체일정 ID (감쇠 점수 높은 순, 없으면 전체 기간 순위)*/
+    public List<Long> getHotFullCourseIds() {
+        List<Long> ids = getHotIds(HOT_FULL_KEY);
+        return ids.isEmpty() ? getTopIds(REDIS_FULL_KEY) : ids;
+    }
+
+    /**최근 인기 일일일정 ID (감쇠 점수 높은 순, 없으면 전체 기간 순위)*/
+    public List<Long> getHotDailyCourseIds() {
+        List<Long> ids = getHotIds(HOT_DAILY_KEY);
+        return ids.isEmpty() ? getTopIds(REDIS_DAILY_KEY) : ids;
+    }
+
+    // 좋아요/스크랩 수 재계산(04:30) 이후 DB 기준으로 랭킹 정리
+    @Scheduled(cron = "${application.course.ranking-reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        rebuild(REDIS_FULL_KEY);
+        rebuild(REDIS_DAILY_KEY);
+        trim(HOT_FULL_KEY);
+        trim(HOT_DAILY_KEY);
+    }
+
+    // 랭킹이 없으면(최초 실행, Redis 초기화) 시작시 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initRanking() {
+        for (String key : List.of(REDIS_FULL_KEY, REDIS_DAILY_KEY)) {
+            try {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                    rebuild(key);
+                }
+            } catch (DataAccessException e) {
+                log.warn("추천 랭킹 확인 실패 : {}", key, e);
+            }
+        }
+    }
+
+
+    private void increase(String key, Long courseId) {
+        try {
+            // ----------------------------------------------------------------------------------------- REDIS ZINCRBY (1)
+            stringRedisTemplate.opsForZSet().incrementScore(key, String.valueOf(courseId), 1);
+        } catch (DataAccessException e) {
+            // 다음 정리 때 DB 기준으로 보정
+            log.warn("추천 랭킹 점수 증가 실패 : {} {}", key, courseId, e);
+        }
+    }
+
+    // 일정 1개 점수만 읽고 갱신 (이벤트당 ZSCORE 1번 + EVALSHA 1번, 랭킹 크기와 무관), 동시 갱신으로 값이 바뀌었으면 다시 읽어서 재시도
+    private void increaseHot(String key, Long courseId) {
+        String member = String.valueOf(courseId);
+        try {
+            for (int attempt = 1; attempt <= HOT_MAX_ATTEMPTS; attempt++) {
+                // ------------------------------------------------------------------------------------- REDIS ZSCORE (1)
+                Double current = stringRedisTemplate.opsForZSet().score(key, member);
+                double score = hotScore.add(current, Instant.now());
+                // ---------------------------------------------------------------------------------- REDIS EVALSHA (1)
+                Long updated = stringRedisTemplate.execute(HOT_COMPARE_AND_SET_SCRIPT, List.of(key),
+                        member, current == null ? "" : String.valueOf(current), String.valueOf(score));
+                if (Long.valueOf(1).equals(updated)) {
+                    return;
+                }
+            }
+            log.warn("최근 인기 점수 증가 충돌, 건너뜀 : {} {}", key, courseId);
+        } catch (DataAccessException e) {
+            log.warn("최근 인기 점수 증가 실패 : {} {}", key, courseId, e);
+        }
+    }
+
+    private List<Long> getHotIds(String key) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            // --------------------------------------------------------------------------------------- REDIS ZREVRANGE (1)
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, recommendSize - 1);
+            if (members != null) {
+                members.forEach(member -> ids.add(Long.valueOf(member)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("최근 인기 랭킹 조회 실패 : {}", key, e);
+        }
+        return ids;
+    }
+
+    // 감쇠 점수는 순서가 유지되므로 하위 일정만 삭제
+    private void trim(String key) {
+        try {
+            Long removed = stringRedisTemplate.opsForZSet().removeRange(key, 0, -(rankingSize + 1L));
+            log.info("최근 인기 랭킹 정리 : {} ({}개 삭제)", key, removed);
+        } catch (DataAccessException e) {
+            log.error("최근 인기 랭킹 정리 실패 : {}", key, e);
+        }
+    }
+
+    private List<Long> getTopIds(String key) {
+        try {
+            // --------------------------------------------------------------------------------------- REDIS ZREVRANGE (1)
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, recommendSize - 1);
+            if (members != null && !members.isEmpty()) {
+                List<Long> ids = new ArrayList<>();
+                members.forEach(member -> ids.add(Long.valueOf(member)));
+                return ids;
+            }
+        } catch (DataAccessException e) {
+            log.warn("추천 랭킹 조회 실패, DB 조회 : {}", key, e);
+        }
+
+        // 랭킹이 없거나 Redis 장애 ------------------------------------------------------------------- DB SELECT (1)
+        Map<Long, Double> scores = selectTopScores(key, recommendSize);
+        return new ArrayList<>(scores.keySet());
+    }
+
+    // 임시 키에 만든 뒤 RENAME 으로 교체 (교체 전까지는 기존 랭킹 조회)
+    private void rebuild(String key) {
+        try {
+            Map<Long, Double> scores = selectTopScores(key, rankingSize); // ------------------------------ DB SELECT (1)
+            if (scores.isEmpty()) {
+                stringRedisTemplate.delete(key);
+                return;
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            scores.forEach((id, score) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(id), score)));
+
+            String rebuildKey = key + REBUILD_SUFFIX;
+            stringRedisTemplate.delete(rebuildKey);
+            stringRedisTemplate.opsForZSet().add(rebuildKey, tuples);
+            stringRedisTemplate.rename(rebuildKey, key);
+            log.info("추천 랭킹 정리 : {} ({}개)", key, scores.size());
+        } catch (DataAccessException e) {
+            log.error("추천 랭킹 정리 실패 : {}", key, e);
+        }
+    }
+
+    // 좋아요 + 스크랩 수 상위 일정 (일정 ID -> 점수, 점수 높은 순)
+    private Map<Long, Double> selectTopScores(String key, int limit) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+
+        if (REDIS_FULL_KEY.equals(key)) {
+            QFullCourse qFullCourse = QFullCourse.fullCourse;
+            NumberExpression<Integer> score = qFullCourse.favoriteCount.add(qFullCourse.scarpCount);
+            List<Tuple> rows = query.select(qFullCourse.fullCourseId, score)
+                    .from(qFullCourse)
+                    .where(score.gt(0))
+                    .orderBy(score.desc(), qFullCourse.fullCourseId.desc())
+                    .limit(limit)
+                    .fetch();
+            rows.forEach(row -> scores.put(row.get(qFullCourse.fullCourseId), row.get(score).doubleValue()));
+        } else {
+            QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+            NumberExpression<Integer> score = qDailyCourse.favoriteCount.add(qDailyCourse.scarpCount);
+            List<Tuple> rows = query.select(qDailyCourse.dailyCourseId, score)
+                    .from(qDailyCourse)
+                    .where(score.gt(0))
+                    .orderBy(score.desc(), qDailyCourse.dailyCourseId.desc())
+                    .limit(limit)
+                    .fetch();
+            rows.forEach(row -> scores.put(row.get(qDailyCourse.dailyCourseId), row.get(score).doubleValue()));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,526 @@
+package com.travelock.server.service.cache;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.*;
+import com.travelock.server.dto.BigBlockDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 지역/카테고리별 추천(인기) 일정 랭킹
+ * - 일정이 속한 구역 : DailyBlockConnect -> FullBlock 의 시/도, 시/군/구(BigBlock), 카테고리(MiddleBlock)
+ *   (전체일정은 포함된 일일일정 블록 전체), 시/도 + 카테고리, 시/군/구 + 카테고리 조합도 구역으로 관리
+ * - key : popular:{full|daily}:{구역}, Redis ZSET (member : 일정 ID, score : 좋아요 + 스크랩 수)
+ * - 일정별 구역 목록 : popular:{full|daily}:tags:{일정 ID}, Redis SET (처음 좋아요/스크랩시 DB에서 채움)
+ *   정리 때마다 점수가 있는 일정만 다시 저장하고 TTL 로 만료 (점수가 없어지거나 삭제된 일정의 목록은 남지 않음)
+ * - 좋아요/스크랩마다 속한 구역 전체에 ZINCRBY 1 (Lua 1번), 일정 블록 수정시 구역 이동
+ * - 조회는 필터 조합에 맞는 구역 1개 ZREVRANGE (조인 없음), Redis 장애시 DB 조인 조회
+ * - 매일 DB 기준으로 구역별 상위 N개로 다시 만듦 (일정 1000개씩 ID 순 조회, Redis 쓰기는 파이프라인, 1개 인스턴스만 수행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseRegionRankingService {
+
+    private final JPAQueryFactory query;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ReferenceDictionary referenceDictionary;
+
+    private static final String LOADED = "loaded";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final int SELECT_CHUNK_SIZE = 1000;
+    // 정리 락 (해제하지 않고 만료시킴, 시각이 조금 다른 인스턴스가 같은 날 다시 수행하지 않도록)
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(30);
+
+    // KEYS[1] : 구역 목록 키, KEYS[2..] : 구역 랭킹 키, ARGV[1] : 일정 ID
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #KEYS do " +
+            "  redis.call('ZINCRBY', KEYS[i], 1, ARGV[1]) " +
+            "  redis.call('SADD', KEYS[1], KEYS[i]) " +
+            "end " +
+            "return #KEYS - 1",
+            Long.class);
+
+    public enum CourseType {
+        FULL("popular:full:"),
+        DAILY("popular:daily:");
+
+        private final String keyBase;
+
+        CourseType(String keyBase) {
+            this.keyBase = keyBase;
+        }
+
+        // 구역 랭킹 키 전체 목록 (정리시 없어진 구역 삭제용)
+        private String partitionsKey() {
+            return keyBase + "partitions";
+        }
+
+        private String tagsKey(Long courseId) {
+            return keyBase + "tags:" + courseId;
+        }
+
+        private String rebuildLockKey() {
+            return keyBase + "rebuild-lock";
+        }
+    }
+
+    @Value("${application.course.recommend-size:10}")
+    private int recommendSize;
+
+    @Value("${application.course.ranking-size:1000}")
+    private int rankingSize;
+
+    // 매일 정리에서 다시 저장되므로 정리 주기보다 길게
+    @Value("${application.course.ranking-tags-ttl-hours:48}")
+    private long tagsTtlHours;
+
+
+    /**
+     * 지역/카테고리 추천 일정 ID (점수 높은 순)
+     * - cityCode는 stateCode와 함께, 필터가 모두 없으면 호출하지 않음 (전체 랭킹 사용)
+     */
+    public List<Long> getTopIds(CourseType type, String stateCode, String cityCode, String category) {
+        RankingPartition filter = RankingPartition.resolve(referenceDictionary, stateCode, cityCode, category);
+        String key = type.keyBase + filter.suffix();
+
+        try {
+            // --------------------------------------------------------------------------------------- REDIS ZREVRANGE (1)
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, recommendSize - 1);
+            List<Long> ids = new ArrayList<>();
+            if (members != null) {
+                members.forEach(member -> ids.add(Long.valueOf(member)));
+            }
+            return ids;
+        } catch (DataAccessException e) {
+            log.warn("지역/카테고리 랭킹 조회 실패, DB 조회 : {}", key, e);
+        }
+
+        // Redis 장애 --------------------------------------------------------------------------------- DB SELECT (1)
+        return selectTopIds(type, filter);
+    }
+
+    /**좋아요/스크랩 발생시 일정이 속한 구역 전체 점수 증가*/
+    public void increase(CourseType type, Long courseId) {
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(type.partitionsKey());
+            keys.addAll(getTags(type, courseId));
+            if (keys.size() == 1) {
+                return;
+            }
+            // -------------------------------------------------------------------------------------- REDIS EVALSHA (1)
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, String.valueOf(courseId));
+        } catch (DataAccessException e) {
+            // 다음 정리 때 DB 기준으로 보정
+            log.warn("지역/카테고리 랭킹 점수 증가 실패 : {} {}", type, courseId, e);
+        }
+    }
+
+    /**
+     * 일정 블록이 바뀐 뒤 구역 다시 계산 (트랜잭션 안에서 호출되면 커밋 이후)
+     * - 빠진 구역에서 삭제, 새 구역에 현재 점수로 추가
+     */
+    public void refresh(CourseType type, Collection<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(courseIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshNow(type, ids);
+                }
+            });
+        } else {
+            refreshNow(type, ids);
+        }
+    }
+
+    /**일정이 속한 구역 (popular:{full|daily}: 를 뺀 접미사, 예: city:3, city:3:category:5)*/
+    public Set<String> getPartitions(CourseType type, Long courseId) {
+        return getPartitions(type, List.of(courseId)).get(courseId);
+    }
+
+    /**
+     * 여러 일정이 속한 구역 (일정 ID -> 접미사 목록, 구역이 없는 일정은 빈 목록)
+     * - 캐시 조회는 파이프라인 1번, 캐시에 없는 일정만 1000개씩 DB 조회 후 저장
+     */
+    public Map<Long, Set<String>> getPartitions(CourseType type, Collection<Long> courseIds) {
+        Map<Long, Set<String>> partitions = new HashMap<>();
+        getTags(type, courseIds).forEach((courseId, tags) -> {
+            Set<String> suffixes = new HashSet<>();
+            for (String key : tags) {
+                suffixes.add(key.substring(type.keyBase.length()));
+            }
+            partitions.put(courseId, suffixes);
+        });
+        return partitions;
+    }
+
+    /**구역 상위 일정과 점수 (partition : getPartitions 의 접미사)*/
+    public Set<ZSetOperations.TypedTuple<String>> getTopWithScores(CourseType type, String partition, int size) {
+        // -------------------------------------------------------------------------- REDIS ZREVRANGE WITHSCORES (1)
+        Set<ZSetOperations.TypedTuple<String>> ranked =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(type.keyBase + partition, 0, size - 1);
+        return ranked == null ? Set.of() : ranked;
+    }
+
+    // 좋아요/스크랩 수 재계산(04:30) 이후 DB 기준으로 구역 랭킹 정리
+    @Scheduled(cron = "${application.course.ranking-reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        rebuild(CourseType.FULL);
+        rebuild(CourseType.DAILY);
+    }
+
+    // 구역 랭킹이 없으면(최초 실행, Redis 초기화) 시작시 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initRanking() {
+        for (CourseType type : CourseType.values()) {
+            try {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(type.partitionsKey()))) {
+                    rebuild(type);
+                }
+            } catch (DataAccessException e) {
+                log.warn("지역/카테고리 랭킹 확인 실패 : {}", type, e);
+            }
+        }
+    }
+
+
+    // 일정이 속한 구역 랭킹 키 (캐시에 없으면 DB에서 계산해서 저장)
+    private Set<String> getTags(CourseType type, Long courseId) {
+        return getTags(type, List.of(courseId)).get(courseId);
+    }
+
+    private Map<Long, Set<String>> getTags(CourseType type, Collection<Long> courseIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(courseIds));
+        Map<Long, Set<String>> tagsByCourse = new HashMap<>();
+        if (ids.isEmpty()) {
+            return tagsByCourse;
+        }
+
+        // ------------------------------------------------------------------------ REDIS PIPELINE (SMEMBERS 일정 수만큼)
+        List<Object> cached = pipelined(operations -> ids.forEach(courseId -> operations.opsForSet().members(type.tagsKey(courseId))));
+        List<Long> missedIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object members = cached.get(i);
+            if (members instanceof Set<?> set && set.contains(LOADED)) {
+                Set<String> tags = new HashSet<>();
+                set.forEach(tag -> tags.add(String.valueOf(tag)));
+                tags.remove(LOADED);
+                tagsByCourse.put(ids.get(i), tags);
+            } else {
+                missedIds.add(ids.get(i));
+            }
+        }
+
+        // ------------------------------------------------------------------------------ DB SELECT (캐시 미스 1000개당 1)
+        for (int from = 0; from < missedIds.size(); from += SELECT_CHUNK_SIZE) {
+            List<Long> chunk = missedIds.subList(from, Math.min(from + SELECT_CHUNK_SIZE, missedIds.size()));
+            Map<Long, Set<String>> selected = selectTags(type, chunk);
+            Map<Long, Set<String>> chunkTags = new HashMap<>();
+            for (Long courseId : chunk) {
+                chunkTags.put(courseId, selected.getOrDefault(courseId, Set.of()));
+            }
+            saveTags(type, chunkTags);
+            tagsByCourse.putAll(chunkTags);
+        }
+        return tagsByCourse;
+    }
+
+    private void saveTags(CourseType type, Long courseId, Set<String> tags) {
+        saveTags(type, Map.of(courseId, tags));
+    }
+
+    // 일정 ID -> 구역 목록 저장 ------------------------------------------------------------------ REDIS PIPELINE (1)
+    private void saveTags(CourseType type, Map<Long, Set<String>> tagsByCourse) {
+        Duration ttl = Duration.ofHours(tagsTtlHours);
+        pipelined(operations -> tagsByCourse.forEach((courseId, tags) -> {
+            String tagsKey = type.tagsKey(courseId);
+            String[] values = new String[tags.size() + 1];
+            values[0] = LOADED;
+            int i = 1;
+            for (String tag : tags) {
+                values[i++] = tag;
+            }
+            operations.delete(tagsKey);
+            operations.opsForSet().add(tagsKey, values);
+            operations.expire(tagsKey, ttl);
+        }));
+    }
+
+    // 명령을 응답을 기다리지 않고 이어서 보낸 뒤 한번에 응답 수신 (명령 순서대로 결과 반환)
+    private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+        return stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private void refreshNow(CourseType type, List<Long> courseIds) {
+        try {
+            // ---------------------------------------------------------------------------------------- DB SELECT (2)
+            Map<Long, Set<String>> tagsByCourse = selectTags(type, courseIds);
+            Map<Long, Double> scores = selectScores(type, courseIds);
+
+            for (Long courseId : courseIds) {
+                String member = String.valueOf(courseId);
+                Set<String> tags = tagsByCourse.getOrDefault(courseId, Set.of());
+                double score = scores.getOrDefault(courseId, 0.0);
+
+                Set<String> previous = stringRedisTemplate.opsForSet().members(type.tagsKey(courseId));
+                if (previous != null) {
+                    for (String key : previous) {
+                        if (!LOADED.equals(key) && (!tags.contains(key) || score <= 0)) {
+                            stringRedisTemplate.opsForZSet().remove(key, member);
+                        }
+                    }
+                }
+                if (score > 0) {
+                    for (String key : tags) {
+                        stringRedisTemplate.opsForZSet().add(key, member, score);
+                        stringRedisTemplate.opsForSet().add(type.partitionsKey(), key);
+                    }
+                }
+                saveTags(type, courseId, tags);
+            }
+        } catch (DataAccessException e) {
+            // 다음 정리 때 DB 기준으로 보정
+            log.warn("지역/카테고리 랭킹 갱신 실패 : {} {}", type, courseIds, e);
+        }
+    }
+
+    // 임시 키에 만든 뒤 RENAME 으로 교체, 점수가 있는 일정이 없어진 구역은 삭제
+    private void rebuild(CourseType type) {
+        try {
+            // ------------------------------------------------------------------------------------- REDIS SET NX (1)
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(type.rebuildLockKey(), "1", REBUILD_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("지역/카테고리 랭킹 정리는 다른 인스턴스에서 수행 : {}", type);
+                return;
+            }
+
+            // 구역 -> (일정 ID -> 점수), 구역마다 상위 rankingSize 개 근처만 유지
+            Map<String, Map<Long, Double>> partitions = new HashMap<>();
+            long courseCount = 0;
+            Long lastId = 0L;
+            while (true) {
+                // 점수가 있는 일정 ID 순으로 1000개씩 ------------------------------------------ DB SELECT ( 일정 1000개당 2 )
+                Map<Long, Double> scores = selectScoresAfter(type, lastId);
+                if (scores.isEmpty()) {
+                    break;
+                }
+                List<Long> chunk = new ArrayList<>(scores.keySet());
+                lastId = chunk.get(chunk.size() - 1);
+                courseCount += chunk.size();
+
+                Map<Long, Set<String>> tagsByCourse = selectTags(type, chunk);
+                Map<Long, Set<String>> chunkTags = new HashMap<>();
+                for (Long courseId : chunk) {
+                    Set<String> tags = tagsByCourse.getOrDefault(courseId, Set.of());
+                    tags.forEach(key -> partitions.computeIfAbsent(key, k -> new HashMap<>()).put(courseId, scores.get(courseId)));
+                    chunkTags.put(courseId, tags);
+                }
+                saveTags(type, chunkTags); // ------------------------------------------------- REDIS PIPELINE ( 일정 1000개당 1 )
+
+                partitions.replaceAll((key, courses) -> courses.size() > rankingSize * 2 ? top(courses) : courses);
+            }
+
+            // 구역별 임시 키에 만든 뒤 RENAME -------------------------------------------------------- REDIS PIPELINE (1)
+            pipelined(operations -> partitions.forEach((key, courses) -> {
+                Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                top(courses).forEach((courseId, score) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(courseId), score)));
+
+                String rebuildKey = key + REBUILD_SUFFIX;
+                operations.delete(rebuildKey);
+                operations.opsForZSet().add(rebuildKey, tuples);
+                operations.rename(rebuildKey, key);
+            }));
+
+            Set<String> previous = stringRedisTemplate.opsForSet().members(type.partitionsKey());
+            if (previous != null) {
+                List<String> removed = previous.stream().filter(key -> !partitions.containsKey(key)).toList();
+                if (!removed.isEmpty()) {
+                    stringRedisTemplate.delete(removed);
+                    stringRedisTemplate.opsForSet().remove(type.partitionsKey(), removed.toArray());
+                }
+            }
+            if (!partitions.isEmpty()) {
+                stringRedisTemplate.opsForSet().add(type.partitionsKey(), partitions.keySet().toArray(new String[0]));
+            }
+            log.info("지역/카테고리 랭킹 정리 : {} (구역 {}개, 일정 {}개)", type, partitions.size(), courseCount);
+        } catch (DataAccessException e) {
+            log.error("지역/카테고리 랭킹 정리 실패 : {}", type, e);
+        }
+    }
+
+    // 점수 높은 순(같으면 최신 일정 순) 상위 rankingSize 개
+    private Map<Long, Double> top(Map<Long, Double> courses) {
+        Map<Long, Double> top = new LinkedHashMap<>();
+        courses.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(rankingSize)
+                .forEach(course -> top.put(course.getKey(), course.getValue()));
+        return top;
+    }
+
+    // 일정 ID -> 속한 구역 랭킹 키 (블록의 시/군/구, 카테고리 조합)
+    private Map<Long, Set<String>> selectTags(CourseType type, Collection<Long> courseIds) {
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+        QFullBlock qFullBlock = QFullBlock.fullBlock;
+
+        List<Tuple> rows;
+        if (type == CourseType.FULL) {
+            QFullAndDailyCourseConnect qConnect = QFullAndDailyCourseConnect.fullAndDailyCourseConnect;
+            rows = query.select(qConnect.fullCourse.fullCourseId, qFullBlock.bigBlock.bigBlockId, qFullBlock.middleBlock.middleBlockId)
+                    .distinct()
+                    .from(qConnect)
+                    .join(qDailyBlockConnect).on(qDailyBlockConnect.dailyCourse.dailyCourseId.eq(qConnect.dailyCourse.dailyCourseId))
+                    .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                    .where(qConnect.fullCourse.fullCourseId.in(courseIds))
+                    .fetch();
+        } else {
+            rows = query.select(qDailyBlockConnect.dailyCourse.dailyCourseId, qFullBlock.bigBlock.bigBlockId, qFullBlock.middleBlock.middleBlockId)
+                    .distinct()
+                    .from(qDailyBlockConnect)
+                    .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                    .where(qDailyBlockConnect.dailyCourse.dailyCourseId.in(courseIds))
+                    .fetch();
+        }
+
+        Map<Long, Set<String>> tagsByCourse = new HashMap<>();
+        for (Tuple row : rows) {
+            Set<String> tags = tagsByCourse.computeIfAbsent(row.get(0, Long.class), id -> new HashSet<>());
+            for (RankingPartition partition : RankingPartition.of(referenceDictionary, row.get(1, Long.class), row.get(2, Long.class))) {
+                tags.add(type.keyBase + partition.suffix());
+            }
+        }
+        return tagsByCourse;
+    }
+
+    // 좋아요 + 스크랩 수
+    private Map<Long, Double> selectScores(CourseType type, Collection<Long> courseIds) {
+        Map<Long, Double> scores = new HashMap<>();
+        if (type == CourseType.FULL) {
+            QFullCourse qFullCourse = QFullCourse.fullCourse;
+            NumberExpression<Integer> score = qFullCourse.favoriteCount.add(qFullCourse.scarpCount);
+            query.select(qFullCourse.fullCourseId, score)
+                    .from(qFullCourse)
+                    .where(qFullCourse.fullCourseId.in(courseIds))
+                    .fetch()
+                    .forEach(row -> scores.put(row.get(qFullCourse.fullCourseId), row.get(score).doubleValue()));
+        } else {
+            QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+            NumberExpression<Integer> score = qDailyCourse.favoriteCount.add(qDailyCourse.scarpCount);
+            query.select(qDailyCourse.dailyCourseId, score)
+                    .from(qDailyCourse)
+                    .where(qDailyCourse.dailyCourseId.in(courseIds))
+                    .fetch()
+                    .forEach(row -> scores.put(row.get(qDailyCourse.dailyCourseId), row.get(score).doubleValue()));
+        }
+        return scores;
+    }
+
+    // lastId 이후 점수가 있는 일정 SELECT_CHUNK_SIZE 개의 좋아요 + 스크랩 수 (ID 순, PK 범위 조회)
+    private Map<Long, Double> selectScoresAfter(CourseType type, Long lastId) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        if (type == CourseType.FULL) {
+            QFullCourse qFullCourse = QFullCourse.fullCourse;
+            NumberExpression<Integer> score = qFullCourse.favoriteCount.add(qFullCourse.scarpCount);
+            query.select(qFullCourse.fullCourseId, score)
+                    .from(qFullCourse)
+                    .where(qFullCourse.fullCourseId.gt(lastId), score.gt(0))
+                    .orderBy(qFullCourse.fullCourseId.asc())
+                    .limit(SELECT_CHUNK_SIZE)
+                    .fetch()
+                    .forEach(row -> scores.put(row.get(qFullCourse.fullCourseId), row.get(score).doubleValue()));
+        } else {
+            QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+            NumberExpression<Integer> score = qDailyCourse.favoriteCount.add(qDailyCourse.scarpCount);
+            query.select(qDailyCourse.dailyCourseId, score)
+                    .from(qDailyCourse)
+                    .where(qDailyCourse.dailyCourseId.gt(lastId), score.gt(0))
+                    .orderBy(qDailyCourse.dailyCourseId.asc())
+                    .limit(SELECT_CHUNK_SIZE)
+                    .fetch()
+                    .forEach(row -> scores.put(row.get(qDailyCourse.dailyCourseId), row.get(score).doubleValue()));
+        }
+        return scores;
+    }
+
+    // Redis 장애시 블록 조인으로 상위 일정 조회
+    private List<Long> selectTopIds(CourseType type, RankingPartition filter) {
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+        QFullBlock qFullBlock = QFullBlock.fullBlock;
+
+        BooleanExpression region;
+        if (filter.bigBlockId() != null) {
+            region = qFullBlock.bigBlock.bigBlockId.eq(filter.bigBlockId());
+        } else if (filter.stateCode() != null) {
+            List<Long> bigBlockIds = referenceDictionary.getCities(filter.stateCode()).stream().map(BigBlockDTO::getBigBlockId).toList();
+            region = qFullBlock.bigBlock.bigBlockId.in(bigBlockIds);
+        } else {
+            region = null;
+        }
+        BooleanExpression category = filter.middleBlockId() == null ? null : qFullBlock.middleBlock.middleBlockId.eq(filter.middleBlockId());
+
+        if (type == CourseType.FULL) {
+            QFullAndDailyCourseConnect qConnect = QFullAndDailyCourseConnect.fullAndDailyCourseConnect;
+            QFullCourse qFullCourse = QFullCourse.fullCourse;
+            NumberExpression<Integer> score = qFullCourse.favoriteCount.add(qFullCourse.scarpCount);
+            return query.select(qFullCourse.fullCourseId, score)
+                    .distinct()
+                    .from(qConnect)
+                    .join(qConnect.fullCourse, qFullCourse)
+                    .join(qDailyBlockConnect).on(qDailyBlockConnect.dailyCourse.dailyCourseId.eq(qConnect.dailyCourse.dailyCourseId))
+                    .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                    .where(score.gt(0), region, category)
+                    .orderBy(score.desc(), qFullCourse.fullCourseId.desc())
+                    .limit(recommendSize)
+                    .fetch()
+                    .stream().map(row -> row.get(qFullCourse.fullCourseId)).toList();
+        }
+
+        QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+        NumberExpression<Integer> score = qDailyCourse.favoriteCount.add(qDailyCourse.scarpCount);
+        return query.select(qDailyCourse.dailyCourseId, score)
+                .distinct()
+                .from(qDailyBlockConnect)
+                .join(qDailyBlockConnect.dailyCourse, qDailyCourse)
+                .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                .where(score.gt(0), region, category)
+                .orderBy(score.desc(), qDailyCourse.dailyCourseId.desc())
+                .limit(recommendSize)
+                .fetch()
+                .stream().map(row -> row.get(qDailyCourse.dailyCourseId)).toList();
+    }
+}
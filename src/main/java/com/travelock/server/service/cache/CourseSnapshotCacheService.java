@@ -0,0 +1,209 @@
+package com.travelock.server.service.cache;
+
+import com.travelock.server.dto.DailyCourseResponseDTO;
+import com.travelock.server.dto.FullCourseResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 전체/일일일정 응답 스냅샷 캐시
+ * - key : course:{full|daily}:{id}:v{version}
+ * - 수정이 발생하면 version을 올려서 이전 스냅샷은 더 이상 조회되지 않도록 함 (TTL로 정리)
+ * - Redis 장애시 캐시 미스로 처리하고 DB 조회로 진행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseSnapshotCacheService {
+    private final RedisTemplate<String, Object> jsonRedisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    private static final String FULL_BASE = "course:full:";
+    private static final String DAILY_BASE = "course:daily:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final Duration SNAPSHOT_TTL = Duration.ofHours(6);
+
+
+    /**전체일정 스냅샷*/
+    public long getFullCourseVersion(Long fullCourseId) {
+        return getVersion(FULL_BASE + fullCourseId);
+    }
+
+    public FullCourseResponseDTO getFullCourse(Long fullCourseId, long version) {
+        Object snapshot = getSnapshot(FULL_BASE + fullCourseId, version);
+        return snapshot instanceof FullCourseResponseDTO ? (FullCourseResponseDTO) snapshot : null;
+    }
+
+    public void putFullCourse(Long fullCourseId, long version, FullCourseResponseDTO fullCourse) {
+        putSnapshot(FULL_BASE + fullCourseId, version, fullCourse);
+    }
+
+    public void evictFullCourse(Long fullCourseId) {
+        bumpVersion(FULL_BASE + fullCourseId);
+    }
+
+    public Map<Long, Long> getFullCourseVersions(Collection<Long> fullCourseIds) {
+        return getVersions(FULL_BASE, fullCourseIds);
+    }
+
+    public Map<Long, FullCourseResponseDTO> getFullCourses(Map<Long, Long> versions) {
+        Map<Long, FullCourseResponseDTO> result = new HashMap<>();
+        getSnapshots(FULL_BASE, versions).forEach((id, snapshot) -> {
+            if (snapshot instanceof FullCourseResponseDTO) {
+                result.put(id, (FullCourseResponseDTO) snapshot);
+            }
+        });
+        return result;
+    }
+
+
+    /**일일일정 스냅샷*/
+    public long getDailyCourseVersion(Long dailyCourseId) {
+        return getVersion(DAILY_BASE + dailyCourseId);
+    }
+
+    public DailyCourseResponseDTO getDailyCourse(Long dailyCourseId, long version) {
+        Object snapshot = getSnapshot(DAILY_BASE + dailyCourseId, version);
+        return snapshot instanceof DailyCourseResponseDTO ? (DailyCourseResponseDTO) snapshot : null;
+    }
+
+    public void putDailyCourse(Long dailyCourseId, long version, DailyCourseResponseDTO dailyCourse) {
+        putSnapshot(DAILY_BASE + dailyCourseId, version, dailyCourse);
+    }
+
+    public void evictDailyCourse(Long dailyCourseId) {
+        bumpVersion(DAILY_BASE + dailyCourseId);
+    }
+
+    public Map<Long, Long> getDailyCourseVersions(Collection<Long> dailyCourseIds) {
+        return getVersions(DAILY_BASE, dailyCourseIds);
+    }
+
+    public Map<Long, DailyCourseResponseDTO> getDailyCourses(Map<Long, Long> versions) {
+        Map<Long, DailyCourseResponseDTO> result = new HashMap<>();
+        getSnapshots(DAILY_BASE, versions).forEach((id, snapshot) -> {
+            if (snapshot instanceof DailyCourseResponseDTO) {
+                result.put(id, (DailyCourseResponseDTO) snapshot);
+            }
+        });
+        return result;
+    }
+
+
+    private long getVersion(String base) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(base + VERSION_SUFFIX);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (DataAccessException e) {
+            log.warn("스냅샷 버전 조회 실패 : {}", base, e);
+            return -1L;
+        }
+    }
+
+    // 여러 ID의 버전을 MGET 1번으로 조회, 실패시 모두 -1 (캐시 사용 안함)
+    private Map<Long, Long> getVersions(String base, Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<String> keys = new ArrayList<>();
+        for (Long id : idList) {
+            keys.add(base + id + VERSION_SUFFIX);
+        }
+
+        Map<Long, Long> versions = new HashMap<>();
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < idList.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                versions.put(idList.get(i), value == null ? 0L : Long.parseLong(value));
+            }
+        } catch (DataAccessException e) {
+            log.warn("스냅샷 버전 일괄 조회 실패 : {}", base, e);
+            for (Long id : idList) {
+                versions.put(id, -1L);
+            }
+        }
+        return versions;
+    }
+
+    // 여러 스냅샷을 MGET 1번으로 조회, 없는 스냅샷은 결과에서 제외
+    private Map<Long, Object> getSnapshots(String base, Map<Long, Long> versions) {
+        List<Long> idList = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        versions.forEach((id, version) -> {
+            if (version >= 0) {
+                idList.add(id);
+                keys.add(base + id + ":v" + version);
+            }
+        });
+
+        Map<Long, Object> snapshots = new HashMap<>();
+        if (keys.isEmpty()) {
+            return snapshots;
+        }
+        try {
+            List<Object> values = jsonRedisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; values != null && i < idList.size(); i++) {
+                if (values.get(i) != null) {
+                    snapshots.put(idList.get(i), values.get(i));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("스냅샷 일괄 조회 실패 : {}", base, e);
+        }
+        return snapshots;
+    }
+
+    private Object getSnapshot(String base, long version) {
+        // 버전 조회에 실패한 경우 캐시 사용 안함
+        if (version < 0) {
+            return null;
+        }
+        try {
+            return jsonRedisTemplate.opsForValue().get(base + ":v" + version);
+        } catch (DataAccessException e) {
+            log.warn("스냅샷 조회 실패 : {}", base, e);
+            return null;
+        }
+    }
+
+    private void putSnapshot(String base, long version, Object snapshot) {
+        if (version < 0 || snapshot == null) {
+            return;
+        }
+        try {
+            jsonRedisTemplate.opsForValue().set(base + ":v" + version, snapshot, SNAPSHOT_TTL);
+        } catch (DataAccessException e) {
+            log.warn("스냅샷 저장 실패 : {}", base, e);
+        }
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 버전 증가 (커밋 전 데이터로 새 버전 스냅샷이 만들어지는 것 방지)
+    private void bumpVersion(String base) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementVersion(base);
+                }
+            });
+        } else {
+            incrementVersion(base);
+        }
+    }
+
+    private void incrementVersion(String base) {
+        try {
+            stringRedisTemplate.opsForValue().increment(base + VERSION_SUFFIX);
+        } catch (DataAccessException e) {
+            // 버전 증가 실패시 최대 TTL 동안 이전 스냅샷이 조회될 수 있음
+            log.error("스냅샷 버전 증가 실패 : {}", base, e);
+        }
+    }
+}
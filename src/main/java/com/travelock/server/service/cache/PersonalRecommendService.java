@@ -0,0 +1,383 @@
+package com.travelock.server.service.cache;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.*;
+import com.travelock.server.service.cache.CourseCountBuffer.Counter;
+import com.travelock.server.service.cache.CourseRegionRankingService.CourseType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 사용자별 추천 일정 (미리 계산)
+ * - key : recommend:member:{memberId}:{full|daily}, Redis ZSET (member : 일정 ID, score : 추천 점수), 최대 candidateSize 개
+ * - 취향 : 좋아요/스크랩한 일정(가중치 2), 직접 만든 일일일정(다녀온 지역, 가중치 1)이 속한 지역/카테고리 구역
+ * - 후보 점수 : 취향 상위 구역마다 구역 랭킹 상위 일정의 (가중치 x 구역 내 상대 점수) 합,
+ *   이미 좋아요/스크랩했거나 직접 만든 일정은 제외
+ * - 매일 최근 활동한 사용자만 다시 계산 (인스턴스 중 하나만 수행), 좋아요/스크랩마다 해당 일정 구역의 일정 점수만 더함 (증분)
+ * - 조회는 키 1개 ZREVRANGE (요청시 점수 계산 없음), 없으면 전체 랭킹 사용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PersonalRecommendService {
+
+    private final JPAQueryFactory query;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final CourseRegionRankingService courseRegionRankingService;
+    private final CourseInteractionCacheService courseInteractionCacheService;
+
+    private static final String KEY_BASE = "recommend:member:";
+    private static final String ACTIVE_KEY = "recommend:active"; // ZSET (member : memberId, score : 마지막 활동 시각(초))
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final double INTERACTION_WEIGHT = 2;
+    private static final double OWN_COURSE_WEIGHT = 1;
+    private static final int PROFILE_COURSE_LIMIT = 50;
+    // 정기 계산 락 (해제하지 않고 만료시킴, 시각이 조금 다른 인스턴스가 같은 날 다시 수행하지 않도록)
+    private static final String REFRESH_LOCK_KEY = "recommend:refresh-lock";
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofHours(1);
+
+    // KEYS[1] : 활동 사용자 키에 ARGV[1] 사용자를 ARGV[2] 시각으로 기록
+    // KEYS[i] (i >= 2) : 추천 키마다 ARGV 에 (후보 수 n, 일정 ID, 점수 x n) 순서로 ZINCRBY, KEYS[2]에서 ARGV[5] 일정 제거,
+    //                    상위 ARGV[3] 개만 남기고 ARGV[4] 초 TTL
+    private static final RedisScript<Long> INTERACTION_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "local pos = 6 " +
+            "for i = 2, #KEYS do " +
+            "  local n = tonumber(ARGV[pos]) " +
+            "  pos = pos + 1 " +
+            "  for j = 1, n do " +
+            "    redis.call('ZINCRBY', KEYS[i], ARGV[pos + 1], ARGV[pos]) " +
+            "    pos = pos + 2 " +
+            "  end " +
+            "  if i == 2 then " +
+            "    redis.call('ZREM', KEYS[i], ARGV[5]) " +
+            "  end " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "  redis.call('EXPIRE', KEYS[i], ARGV[4]) " +
+            "end " +
+            "return #KEYS - 1",
+            Long.class);
+
+    @Value("${application.course.recommend-size:10}")
+    private int recommendSize;
+
+    @Value("${application.course.personal-candidate-size:100}")
+    private int candidateSize;
+
+    @Value("${application.course.personal-profile-size:5}")
+    private int profileSize;
+
+    @Value("${application.course.personal-per-partition:20}")
+    private int perPartition;
+
+    @Value("${application.course.personal-active-days:7}")
+    private int activeDays;
+
+
+    /**사용자 추천 일정 ID (점수 높은 순, 없으면 빈 목록)*/
+    public List<Long> getCourseIds(CourseType type, Long memberId) {
+        List<Long> ids = new ArrayList<>();
+        try {
+            // --------------------------------------------------------------------------------------- REDIS ZREVRANGE (1)
+            Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(keyOf(type, memberId), 0, recommendSize - 1);
+            if (members != null) {
+                members.forEach(member -> ids.add(Long.valueOf(member)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("사용자 추천 조회 실패 : {}", memberId, e);
+        }
+        return ids;
+    }
+
+    /**
+     * 좋아요/스크랩 반영 (증분, 커밋 후)
+     * - 일정이 속한 구역의 상위 일정에 점수 추가, 반응한 일정은 후보에서 제외
+     * - 활동 사용자로 기록 (다음 정기 계산 대상)
+     * - 쓰기는 스크립트 1번으로 (롤백된 좋아요/스크랩은 반영하지 않음)
+     */
+    public void onInteraction(CourseType type, Long memberId, Long courseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyInteraction(type, memberId, courseId);
+                }
+            });
+        } else {
+            applyInteraction(type, memberId, courseId);
+        }
+    }
+
+    // 추천 랭킹(지역/카테고리) 정리(05:00) 이후 최근 활동 사용자 다시 계산
+    @Scheduled(cron = "${application.course.personal-recommend-cron:0 30 5 * * *}")
+    public void refreshActiveMembers() {
+        long since = Instant.now().minus(Duration.ofDays(activeDays)).getEpochSecond();
+        Set<String> members;
+        try {
+            // 모든 인스턴스에서 스케줄되므로 락을 얻은 인스턴스만 수행 ---------------------------------- REDIS SET NX (1)
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(REFRESH_LOCK_KEY, "1", REFRESH_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("사용자 추천 계산은 다른 인스턴스에서 수행");
+                return;
+            }
+
+            // 오래된 활동 기록 정리 (추천 키는 TTL로 만료)
+            stringRedisTemplate.opsForZSet().removeRangeByScore(ACTIVE_KEY, Double.NEGATIVE_INFINITY, since - 1);
+            members = stringRedisTemplate.opsForZSet().rangeByScore(ACTIVE_KEY, since, Double.POSITIVE_INFINITY);
+        } catch (DataAccessException e) {
+            log.error("사용자 추천 대상 조회 실패", e);
+            return;
+        }
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        int refreshed = 0;
+        for (String member : members) {
+            try {
+                refresh(Long.valueOf(member));
+                refreshed++;
+            } catch (DataAccessException e) {
+                log.warn("사용자 추천 계산 실패 : {}", member, e);
+            }
+        }
+        log.info("사용자 추천 계산 : {}/{}명", refreshed, members.size());
+    }
+
+    /**사용자 추천 전체 다시 계산 (임시 키에 만든 뒤 RENAME 으로 교체)*/
+    public void refresh(Long memberId) {
+        // 좋아요/스크랩한 일정, 직접 만든 일정 ------------------------------------------------------------ DB SELECT (6)
+        List<Long> favoriteFullIds = selectInteractedCourseIds(Counter.FULL_FAVORITE, memberId);
+        List<Long> scrapFullIds = selectInteractedCourseIds(Counter.FULL_SCRAP, memberId);
+        List<Long> favoriteDailyIds = selectInteractedCourseIds(Counter.DAILY_FAVORITE, memberId);
+        List<Long> scrapDailyIds = selectInteractedCourseIds(Counter.DAILY_SCRAP, memberId);
+        List<Long> ownFullIds = selectOwnCourseIds(CourseType.FULL, memberId);
+        List<Long> ownDailyIds = selectOwnCourseIds(CourseType.DAILY, memberId);
+
+        // 일정별 구역 (종류마다 한번에, 캐시에 없는 일정만 DB 조회) ------------ REDIS PIPELINE (2), DB SELECT (캐시 미스시 1~2)
+        Map<Long, Set<String>> fullPartitions = courseRegionRankingService.getPartitions(CourseType.FULL,
+                union(favoriteFullIds, scrapFullIds));
+        Map<Long, Set<String>> dailyPartitions = courseRegionRankingService.getPartitions(CourseType.DAILY,
+                union(favoriteDailyIds, scrapDailyIds, ownDailyIds));
+
+        // 구역 -> 가중치 합
+        Map<String, Double> weights = new HashMap<>();
+        addProfile(weights, fullPartitions, favoriteFullIds, INTERACTION_WEIGHT);
+        addProfile(weights, fullPartitions, scrapFullIds, INTERACTION_WEIGHT);
+        addProfile(weights, dailyPartitions, favoriteDailyIds, INTERACTION_WEIGHT);
+        addProfile(weights, dailyPartitions, scrapDailyIds, INTERACTION_WEIGHT);
+        addProfile(weights, dailyPartitions, ownDailyIds, OWN_COURSE_WEIGHT);
+
+        Map<String, Double> profile = new HashMap<>();
+        weights.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(profileSize)
+                .forEach(entry -> profile.put(entry.getKey(), entry.getValue()));
+
+        Map<CourseType, Set<Long>> excluded = Map.of(
+                CourseType.FULL, union(favoriteFullIds, scrapFullIds, ownFullIds),
+                CourseType.DAILY, union(favoriteDailyIds, scrapDailyIds, ownDailyIds));
+
+        for (CourseType type : CourseType.values()) {
+            Map<Long, Double> scores = scoreCandidates(type, null, profile);
+            scores.keySet().removeAll(excluded.get(type));
+            replace(keyOf(type, memberId), scores);
+        }
+    }
+
+
+    private void applyInteraction(CourseType type, Long memberId, Long courseId) {
+        try {
+            Map<String, Double> profile = new HashMap<>();
+            for (String partition : courseRegionRankingService.getPartitions(type, courseId)) {
+                profile.put(partition, INTERACTION_WEIGHT);
+            }
+
+            // 반응한 일정 종류의 키가 KEYS[2]
+            List<String> keys = new ArrayList<>();
+            List<String> args = new ArrayList<>(List.of(
+                    String.valueOf(memberId),
+                    String.valueOf(Instant.now().getEpochSecond()),
+                    String.valueOf(candidateSize),
+                    String.valueOf(Duration.ofDays(activeDays).toSeconds()),
+                    String.valueOf(courseId)));
+            keys.add(ACTIVE_KEY);
+            List<CourseType> candidateTypes = new ArrayList<>(List.of(type));
+            Arrays.stream(CourseType.values()).filter(candidateType -> candidateType != type).forEach(candidateTypes::add);
+            for (CourseType candidateType : candidateTypes) {
+                Map<Long, Double> scores = scoreCandidates(candidateType, memberId, profile);
+                if (candidateType == type) {
+                    scores.remove(courseId);
+                }
+                keys.add(keyOf(candidateType, memberId));
+                args.add(String.valueOf(scores.size()));
+                scores.forEach((id, score) -> {
+                    args.add(String.valueOf(id));
+                    args.add(String.valueOf(score));
+                });
+            }
+
+            // -------------------------------------------------------------------------------------- REDIS EVALSHA (1)
+            stringRedisTemplate.execute(INTERACTION_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            // 다음 정기 계산 때 반영
+            log.warn("사용자 추천 증분 반영 실패 : {} {} {}", type, memberId, courseId, e);
+        }
+    }
+
+    // 구역마다 상위 일정의 (가중치 x 구역 1위 대비 점수) 합, memberId가 있으면 좋아요/스크랩한 일정, 직접 만든 일정 제외
+    private Map<Long, Double> scoreCandidates(CourseType type, Long memberId, Map<String, Double> profile) {
+        Map<Long, Double> scores = new HashMap<>();
+        profile.forEach((partition, weight) -> {
+            Set<ZSetOperations.TypedTuple<String>> ranked = courseRegionRankingService.getTopWithScores(type, partition, perPartition);
+            double max = ranked.stream().mapToDouble(tuple -> tuple.getScore() == null ? 0 : tuple.getScore()).max().orElse(0);
+            if (max <= 0) {
+                return;
+            }
+            for (ZSetOperations.TypedTuple<String> tuple : ranked) {
+                double score = tuple.getScore() == null ? 0 : tuple.getScore();
+                scores.merge(Long.valueOf(tuple.getValue()), weight * score / max, Double::sum);
+            }
+        });
+
+        if (memberId != null && !scores.isEmpty()) {
+            Set<Long> interacted = type == CourseType.FULL
+                    ? courseInteractionCacheService.getInteractedCourseIds(Counter.FULL_FAVORITE, Counter.FULL_SCRAP, memberId, new ArrayList<>(scores.keySet()))
+                    : courseInteractionCacheService.getInteractedCourseIds(Counter.DAILY_FAVORITE, Counter.DAILY_SCRAP, memberId, new ArrayList<>(scores.keySet()));
+            scores.keySet().removeAll(interacted);
+        }
+        if (memberId != null && !scores.isEmpty()) {
+            // 직접 만든 일정 제외 (전체 계산과 같은 기준) ------------------------------------------------ DB SELECT (1)
+            scores.keySet().removeAll(selectOwnCourseIds(type, memberId, scores.keySet()));
+        }
+        return scores;
+    }
+
+    private void addProfile(Map<String, Double> weights, Map<Long, Set<String>> partitions, List<Long> courseIds, double weight) {
+        for (Long courseId : courseIds) {
+            for (String partition : partitions.getOrDefault(courseId, Set.of())) {
+                weights.merge(partition, weight, Double::sum);
+            }
+        }
+    }
+
+    // 점수 높은 순 상위 candidateSize 개로 교체, 후보가 없으면 삭제 (전체 랭킹 사용)
+    private void replace(String key, Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            stringRedisTemplate.delete(key);
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(candidateSize)
+                .forEach(course -> tuples.add(new DefaultTypedTuple<>(String.valueOf(course.getKey()), course.getValue())));
+
+        String rebuildKey = key + REBUILD_SUFFIX;
+        stringRedisTemplate.delete(rebuildKey);
+        stringRedisTemplate.opsForZSet().add(rebuildKey, tuples);
+        stringRedisTemplate.rename(rebuildKey, key);
+        stringRedisTemplate.expire(key, Duration.ofDays(activeDays));
+    }
+
+    // 최근 좋아요/스크랩한 일정 (최대 PROFILE_COURSE_LIMIT 개)
+    private List<Long> selectInteractedCourseIds(Counter counter, Long memberId) {
+        switch (counter) {
+            case FULL_FAVORITE -> {
+                QFullCourseFavorite q = QFullCourseFavorite.fullCourseFavorite;
+                return query.select(q.fullCourse.fullCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId))
+                        .orderBy(q.fullCourseFavoriteId.desc())
+                        .limit(PROFILE_COURSE_LIMIT)
+                        .fetch();
+            }
+            case FULL_SCRAP -> {
+                QFullCourseScrap q = QFullCourseScrap.fullCourseScrap;
+                return query.select(q.fullCourse.fullCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId))
+                        .orderBy(q.fullCourseScrapId.desc())
+                        .limit(PROFILE_COURSE_LIMIT)
+                        .fetch();
+            }
+            case DAILY_FAVORITE -> {
+                QDailyCourseFavorite q = QDailyCourseFavorite.dailyCourseFavorite;
+                return query.select(q.dailyCourse.dailyCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId))
+                        .orderBy(q.dailyCourseFavoriteId.desc())
+                        .limit(PROFILE_COURSE_LIMIT)
+                        .fetch();
+            }
+            default -> {
+                QDailyCourseScrap q = QDailyCourseScrap.dailyCourseScrap;
+                return query.select(q.dailyCourse.dailyCourseId).from(q)
+                        .where(q.member.memberId.eq(memberId))
+                        .orderBy(q.dailyCourseScrapId.desc())
+                        .limit(PROFILE_COURSE_LIMIT)
+                        .fetch();
+            }
+        }
+    }
+
+    // 직접 만든 일정 (일일일정은 다녀온 지역 취향으로도 사용)
+    private List<Long> selectOwnCourseIds(CourseType type, Long memberId) {
+        if (type == CourseType.FULL) {
+            QFullCourse qFullCourse = QFullCourse.fullCourse;
+            return query.select(qFullCourse.fullCourseId).from(qFullCourse)
+                    .where(qFullCourse.member.memberId.eq(memberId))
+                    .orderBy(qFullCourse.fullCourseId.desc())
+                    .limit(PROFILE_COURSE_LIMIT)
+                    .fetch();
+        }
+        QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+        return query.select(qDailyCourse.dailyCourseId).from(qDailyCourse)
+                .where(qDailyCourse.member.memberId.eq(memberId))
+                .orderBy(qDailyCourse.dailyCourseId.desc())
+                .limit(PROFILE_COURSE_LIMIT)
+                .fetch();
+    }
+
+    // 후보 중 직접 만든 일정
+    private List<Long> selectOwnCourseIds(CourseType type, Long memberId, Collection<Long> courseIds) {
+        if (type == CourseType.FULL) {
+            QFullCourse qFullCourse = QFullCourse.fullCourse;
+            return query.select(qFullCourse.fullCourseId).from(qFullCourse)
+                    .where(qFullCourse.member.memberId.eq(memberId)
+                            .and(qFullCourse.fullCourseId.in(courseIds)))
+                    .fetch();
+        }
+        QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+        return query.select(qDailyCourse.dailyCourseId).from(qDailyCourse)
+                .where(qDailyCourse.member.memberId.eq(memberId)
+                        .and(qDailyCourse.dailyCourseId.in(courseIds)))
+                .fetch();
+    }
+
+    @SafeVarargs
+    private static Set<Long> union(List<Long>... lists) {
+        Set<Long> union = new HashSet<>();
+        for (List<Long> list : lists) {
+            union.addAll(list);
+        }
+        return union;
+    }
+
+    private String keyOf(CourseType type, Long memberId) {
+        return KEY_BASE + memberId + ":" + type.name().toLowerCase();
+    }
+}
@@ -0,0 +1,460 @@
+package com.travelock.server.service.cache;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.FullBlock;
+import com.travelock.server.domain.QDailyBlockConnect;
+import com.travelock.server.domain.QDailyCourse;
+import com.travelock.server.domain.QFullBlock;
+import com.travelock.server.dto.AlsoAddedPlaceDTO;
+import com.travelock.server.dto.PlaceRankDTO;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 함께 추가된 장소 ("이 장소를 추가한 사람들이 함께 추가한 장소")
+ * - key : place:also:{smallBlockId}, Redis ZSET (member : 함께 추가된 smallBlockId, score : 같은 일일일정에 있었던 수)
+ * - 일일일정 저장시 그날 장소끼리 서로 1씩 증가 (커밋 이후 일자당 Lua 1번)
+ * - 장소마다 상위 capacity 개만 유지 (하위 장소는 잘라내므로 근사값), 조회는 ZREVRANGE + 장소 정보 HMGET
+ * - 일일일정 수정시 전후 장소 쌍을 비교해서 없어진 쌍은 1 감소(0 이하면 제거), 새로 생긴 쌍은 1 증가
+ * - 인덱스가 없으면(최초 실행, Redis 초기화) 시작시 DailyBlockConnect 전체로 생성
+ *   (1개 인스턴스만 임시 키에 만든 뒤 RENAME, 생성 중에는 기존 키로 조회)
+ * - 생성 중 저장/수정된 일일일정 중 생성이 DB 에서 읽지 않을 일정(이미 읽은 ID 이하, 시작시 최대 ID 초과)은
+ *   임시 키에도 반영해서 RENAME 후에도 남김 (생성 중 표시 키의 진행 ID 와 스크립트 안에서 비교)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceCooccurrenceService {
+
+    private final JPAQueryFactory query;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final PlaceLeaderboardService placeLeaderboardService;
+
+    private static final String KEY_BASE = "place:also:";
+    private static final String LOADED_KEY = "place:also-loaded";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final int REBUILD_CHUNK_SIZE = 500;
+    private static final int RENAME_CHUNK_SIZE = 1000;
+    // 생성 락 (생성 실패시 해제, 성공하면 LOADED_KEY 가 있으므로 만료시킴)
+    private static final String REBUILD_LOCK_KEY = "place:also-rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(30);
+    // 생성 중 표시 (HASH suffix : 임시 키 접미사, done : 읽은 마지막 일일일정 ID, max : 읽을 최대 일일일정 ID)
+    private static final String REBUILDING_KEY = "place:also-rebuilding";
+    // 임시 키 만료 (생성 실패시 남은 키 정리, RENAME 후 PERSIST)
+    private static final Duration REBUILD_KEY_TTL = Duration.ofDays(1);
+
+    // 반영할 키 접미사 목록 : 기존 키(''), 생성 중이고 생성이 읽지 않을 일일일정(ARGV[2])이면 임시 키 접미사 추가
+    // (ARGV[2] 가 '' 이면 생성 자체의 반영이라 임시 키만)
+    private static final String SUFFIXES =
+            "local rebuild = redis.call('HMGET', KEYS[1], 'suffix', 'done', 'max') " +
+            "local suffixes = {''} " +
+            "if ARGV[2] == '' then " +
+            "  if not rebuild[1] then return redis.error_reply('rebuild marker missing') end " +
+            "  suffixes = {rebuild[1]} " +
+            "elseif rebuild[1] then " +
+            "  local day = tonumber(ARGV[2]) " +
+            "  if day <= tonumber(rebuild[2]) or day > tonumber(rebuild[3]) then table.insert(suffixes, rebuild[1]) end " +
+            "end ";
+
+    // KEYS[1] 생성 중 표시, ARGV[1] capacity, ARGV[2] 일일일정 ID, ARGV[3] 임시 키 만료(ms)
+    // KEYS[i] 장소(ARGV[i + 2])에 나머지 장소 전부 1 증가 후 상위 capacity 개만 유지
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            SUFFIXES +
+            "local capacity = tonumber(ARGV[1]) " +
+            "for _, suffix in ipairs(suffixes) do " +
+            "  for i = 2, #KEYS do " +
+            "    local key = KEYS[i] .. suffix " +
+            "    for j = 2, #KEYS do " +
+            "      if j ~= i then redis.call('ZINCRBY', key, 1, ARGV[j + 2]) end " +
+            "    end " +
+            "    redis.call('ZREMRANGEBYRANK', key, 0, -(capacity + 1)) " +
+            "    if suffix ~= '' then redis.call('PEXPIRE', key, ARGV[3]) end " +
+            "  end " +
+            "end " +
+            "return #KEYS - 1",
+            Long.class);
+
+    // KEYS[1] 생성 중 표시, ARGV[1] capacity, ARGV[2] 일일일정 ID, ARGV[3] 임시 키 만료(ms)
+    // KEYS[i] 장소에 ARGV[2i] 장소를 ARGV[2i + 1] 만큼 증가 (0 이하가 되면 제거) 후 상위 capacity 개만 유지
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>(
+            SUFFIXES +
+            "local capacity = tonumber(ARGV[1]) " +
+            "for _, suffix in ipairs(suffixes) do " +
+            "  for i = 2, #KEYS do " +
+            "    local key = KEYS[i] .. suffix " +
+            "    local score = tonumber(redis.call('ZINCRBY', key, ARGV[2 * i + 1], ARGV[2 * i])) " +
+            "    if score <= 0 then " +
+            "      redis.call('ZREM', key, ARGV[2 * i]) " +
+            "    else " +
+            "      redis.call('ZREMRANGEBYRANK', key, 0, -(capacity + 1)) " +
+            "    end " +
+            "    if suffix ~= '' then redis.call('PEXPIRE', key, ARGV[3]) end " +
+            "  end " +
+            "end " +
+            "return #KEYS - 1",
+            Long.class);
+
+    // KEYS[2i - 1] 임시 키를 KEYS[2i] 키로 교체 (임시 키가 비었으면 기존 키 삭제)
+    private static final RedisScript<Long> RENAME_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('RENAME', KEYS[i], KEYS[i + 1]) " +
+            "    redis.call('PERSIST', KEYS[i + 1]) " +
+            "  else " +
+            "    redis.call('DEL', KEYS[i + 1]) " +
+            "  end " +
+            "end " +
+            "return #KEYS / 2",
+            Long.class);
+
+    @Value("${application.small-block.also-added-size:10}")
+    private int defaultSize;
+
+    @Value("${application.small-block.also-added-max-size:100}")
+    private int maxSize;
+
+    @Value("${application.small-block.also-added-capacity:200}")
+    private int capacity;
+
+    @Value("${application.small-block.also-added-max-places:50}")
+    private int maxPlacesPerDay;
+
+
+    /**함께 추가된 장소 (많이 함께 추가된 순)*/
+    public List<AlsoAddedPlaceDTO> getAlsoAdded(Long smallBlockId, Integer size) {
+        int limit = size == null ? defaultSize : size;
+        if (smallBlockId == null) {
+            throw new BadRequestException("smallBlockId is required");
+        }
+        if (limit < 1 || limit > maxSize) {
+            throw new BadRequestException("size must be between 1 and " + maxSize);
+        }
+
+        LinkedHashMap<Long, Integer> counts = new LinkedHashMap<>();
+        try {
+            // ------------------------------------------------------------------------------ REDIS ZREVRANGE WITHSCORES (1)
+            Set<ZSetOperations.TypedTuple<String>> ranked =
+                    stringRedisTemplate.opsForZSet().reverseRangeWithScores(KEY_BASE + smallBlockId, 0, limit - 1);
+            if (ranked != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : ranked) {
+                    counts.put(Long.valueOf(tuple.getValue()), tuple.getScore() == null ? 0 : tuple.getScore().intValue());
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("함께 추가된 장소 조회 실패, DB 조회 : {}", smallBlockId, e);
+            counts = selectAlsoAdded(smallBlockId, limit); // ---------------------------------------------- DB SELECT (1)
+        }
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+
+        // 장소 정보 ------------------------------------------------------------------ REDIS HMGET (1), 없는 장소만 DB SELECT (1)
+        Map<Long, PlaceRankDTO> places = placeLeaderboardService.getPlaceInfos(new ArrayList<>(counts.keySet()));
+        List<AlsoAddedPlaceDTO> result = new ArrayList<>();
+        counts.forEach((id, count) -> {
+            PlaceRankDTO place = places.get(id);
+            if (place != null) {
+                result.add(AlsoAddedPlaceDTO.of(place, count));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 저장된 일자별 블록 반영 (트랜잭션 안에서 호출되면 커밋 이후)
+     * - 일일일정 ID -> 블록, 새 장소와 일일일정은 ID가 부여된 뒤 호출, 일자당 장소는 maxPlacesPerDay 개까지만
+     */
+    public void recordDays(Map<Long, List<FullBlock>> days) {
+        Map<Long, List<String>> dayPlaces = new LinkedHashMap<>();
+        days.forEach((dailyCourseId, day) -> {
+            Set<String> placeIds = new LinkedHashSet<>();
+            for (FullBlock fullBlock : day) {
+                if (placeIds.size() >= maxPlacesPerDay) {
+                    break;
+                }
+                placeIds.add(String.valueOf(fullBlock.getSmallBlock().getSmallBlockId()));
+            }
+            if (placeIds.size() > 1) {
+                dayPlaces.put(dailyCourseId, new ArrayList<>(placeIds));
+            }
+        });
+        if (dayPlaces.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dayPlaces.forEach(PlaceCooccurrenceService.this::increment);
+                }
+            });
+        } else {
+            dayPlaces.forEach(this::increment);
+        }
+    }
+
+    /**
+     * 수정된 일일일정 반영 (트랜잭션 안에서 호출되면 커밋 이후)
+     * - 수정 전후 장소 ID(블록 순서), 각각 앞에서부터 maxPlacesPerDay 개까지만 비교
+     */
+    public void recordChange(Long dailyCourseId, List<Long> beforePlaceIds, List<Long> afterPlaceIds) {
+        Set<List<String>> beforePairs = pairsOf(beforePlaceIds);
+        Set<List<String>> afterPairs = pairsOf(afterPlaceIds);
+
+        // 장소 쌍 -> 변경량 (양방향 모두 반영)
+        Map<List<String>, Integer> changes = new LinkedHashMap<>();
+        for (List<String> pair : beforePairs) {
+            if (!afterPairs.contains(pair)) {
+                changes.put(pair, -1);
+            }
+        }
+        for (List<String> pair : afterPairs) {
+            if (!beforePairs.contains(pair)) {
+                changes.put(pair, 1);
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change(dailyCourseId, changes);
+                }
+            });
+        } else {
+            change(dailyCourseId, changes);
+        }
+    }
+
+    // 인덱스가 없으면 기존 일일일정으로 생성 (시작시 최대 ID 까지 일일일정 500개씩 임시 키에 누적 후 RENAME)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOADED_KEY))) {
+                return;
+            }
+            // ------------------------------------------------------------------------------------- REDIS SET NX (1)
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("함께 추가된 장소 인덱스는 다른 인스턴스에서 생성");
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("함께 추가된 장소 인덱스 확인 실패", e);
+            return;
+        }
+
+        try {
+            QDailyCourse qDailyCourse = QDailyCourse.dailyCourse;
+            QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+            QFullBlock qFullBlock = QFullBlock.fullBlock;
+
+            // 생성 중 표시 (최대 ID 를 정하기 전에는 모든 수정을 임시 키에도 반영) ----------------------- REDIS PIPELINE (1)
+            String suffix = REBUILD_SUFFIX + System.currentTimeMillis();
+            markRebuilding(Map.of("suffix", suffix, "done", "0", "max", "0"));
+            // ----------------------------------------------------------------------------------------- DB SELECT (1)
+            Long maxId = query.select(qDailyCourse.dailyCourseId.max()).from(qDailyCourse).fetchOne();
+            markRebuilding(Map.of("max", String.valueOf(maxId == null ? 0 : maxId))); // ------------- REDIS PIPELINE (1)
+
+            long dayCount = 0;
+            Long lastId = 0L;
+            Set<String> builtPlaceIds = new HashSet<>();
+            while (maxId != null) {
+                // -------------------------------------------------------------------------- DB SELECT ( 일일일정 500개당 2 )
+                List<Long> dailyCourseIds = query.select(qDailyCourse.dailyCourseId)
+                        .from(qDailyCourse)
+                        .where(qDailyCourse.dailyCourseId.gt(lastId), qDailyCourse.dailyCourseId.loe(maxId))
+                        .orderBy(qDailyCourse.dailyCourseId.asc())
+                        .limit(REBUILD_CHUNK_SIZE)
+                        .fetch();
+                if (dailyCourseIds.isEmpty()) {
+                    break;
+                }
+                lastId = dailyCourseIds.get(dailyCourseIds.size() - 1);
+                // 읽기 전에 진행 ID 를 올림 (경계에서 커밋된 수정은 빠지지 않고 두번 반영될 수 있음) ------- REDIS PIPELINE (1)
+                markRebuilding(Map.of("done", String.valueOf(lastId)));
+
+                List<Tuple> rows = query.select(qDailyBlockConnect.dailyCourse.dailyCourseId, qFullBlock.smallBlock.smallBlockId)
+                        .from(qDailyBlockConnect)
+                        .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                        .where(qDailyBlockConnect.dailyCourse.dailyCourseId.in(dailyCourseIds))
+                        .orderBy(qDailyBlockConnect.dailyCourse.dailyCourseId.asc(), qDailyBlockConnect.blockNum.asc())
+                        .fetch();
+
+                Map<Long, Set<String>> placesByDay = new LinkedHashMap<>();
+                for (Tuple row : rows) {
+                    Set<String> places = placesByDay.computeIfAbsent(row.get(0, Long.class), id -> new LinkedHashSet<>());
+                    if (places.size() < maxPlacesPerDay) {
+                        places.add(String.valueOf(row.get(1, Long.class)));
+                    }
+                }
+                for (Set<String> places : placesByDay.values()) {
+                    if (places.size() > 1) {
+                        builtPlaceIds.addAll(places);
+                        increment(new ArrayList<>(places), "");
+                        dayCount++;
+                    }
+                }
+            }
+
+            // 임시 키로 교체 (1000개씩, 교체 후 표시 삭제 전까지의 반영은 기존 키에 남음) ------ REDIS EVALSHA ( 장소 1000개당 1 )
+            List<String> placeIds = new ArrayList<>(builtPlaceIds);
+            for (int from = 0; from < placeIds.size(); from += RENAME_CHUNK_SIZE) {
+                List<String> keys = new ArrayList<>();
+                for (String placeId : placeIds.subList(from, Math.min(from + RENAME_CHUNK_SIZE, placeIds.size()))) {
+                    keys.add(KEY_BASE + placeId + suffix);
+                    keys.add(KEY_BASE + placeId);
+                }
+                stringRedisTemplate.execute(RENAME_SCRIPT, keys);
+            }
+
+            stringRedisTemplate.opsForValue().set(LOADED_KEY, String.valueOf(dayCount));
+            stringRedisTemplate.delete(REBUILDING_KEY);
+            log.info("함께 추가된 장소 인덱스 생성 : 일일일정 {}개, 장소 {}개", dayCount, placeIds.size());
+        } catch (DataAccessException e) {
+            log.error("함께 추가된 장소 인덱스 생성 실패", e);
+            releaseRebuildLock();
+        }
+    }
+
+
+    private void increment(Long dailyCourseId, List<String> placeIds) {
+        try {
+            increment(placeIds, String.valueOf(dailyCourseId));
+        } catch (DataAccessException e) {
+            log.warn("함께 추가된 장소 반영 실패 : {}", placeIds, e);
+        }
+    }
+
+    // dailyCourseId : 반영할 일일일정 ID, 인덱스 생성 자체의 반영이면 '' (임시 키에만, 실패하면 생성 전체 실패)
+    private void increment(List<String> placeIds, String dailyCourseId) {
+        List<String> keys = new ArrayList<>();
+        keys.add(REBUILDING_KEY);
+        Object[] args = new Object[placeIds.size() + 3];
+        args[0] = String.valueOf(capacity);
+        args[1] = dailyCourseId;
+        args[2] = String.valueOf(REBUILD_KEY_TTL.toMillis());
+        for (int i = 0; i < placeIds.size(); i++) {
+            keys.add(KEY_BASE + placeIds.get(i));
+            args[i + 3] = placeIds.get(i);
+        }
+        // ------------------------------------------------------------------------------------------ REDIS EVALSHA (1)
+        stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, args);
+    }
+
+    // 생성 중 표시 갱신 (생성이 멈추면 락과 함께 만료)
+    private void markRebuilding(Map<String, String> fields) {
+        pipelined(operations -> {
+            operations.opsForHash().putAll(REBUILDING_KEY, fields);
+            operations.expire(REBUILDING_KEY, REBUILD_LOCK_TTL);
+        });
+    }
+
+    // 실패시 표시도 삭제 (이후 수정은 기존 키에만, 남은 임시 키는 만료)
+    private void releaseRebuildLock() {
+        try {
+            stringRedisTemplate.delete(List.of(REBUILDING_KEY, REBUILD_LOCK_KEY));
+        } catch (DataAccessException e) {
+            log.warn("함께 추가된 장소 인덱스 생성 락 해제 실패 (만료 후 재시도)", e);
+        }
+    }
+
+    // 명령을 응답을 기다리지 않고 이어서 보낸 뒤 한번에 응답 수신
+    private void pipelined(Consumer<RedisOperations<String, String>> commands) {
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private void change(Long dailyCourseId, Map<List<String>, Integer> changes) {
+        List<String> keys = new ArrayList<>();
+        keys.add(REBUILDING_KEY);
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(dailyCourseId));
+        args.add(String.valueOf(REBUILD_KEY_TTL.toMillis()));
+        changes.forEach((pair, delta) -> {
+            keys.add(KEY_BASE + pair.get(0));
+            args.add(pair.get(1));
+            args.add(String.valueOf(delta));
+            keys.add(KEY_BASE + pair.get(1));
+            args.add(pair.get(0));
+            args.add(String.valueOf(delta));
+        });
+        try {
+            // -------------------------------------------------------------------------------------- REDIS EVALSHA (1)
+            stringRedisTemplate.execute(CHANGE_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("함께 추가된 장소 수정 반영 실패 : {}개 쌍", changes.size(), e);
+        }
+    }
+
+    // 앞에서부터 maxPlacesPerDay 개 장소의 (작은 ID, 큰 ID) 쌍
+    private Set<List<String>> pairsOf(List<Long> placeIds) {
+        List<Long> places = new ArrayList<>(new LinkedHashSet<>(placeIds));
+        if (places.size() > maxPlacesPerDay) {
+            places = places.subList(0, maxPlacesPerDay);
+        }
+        Set<List<String>> pairs = new HashSet<>();
+        for (int i = 0; i < places.size(); i++) {
+            for (int j = i + 1; j < places.size(); j++) {
+                Long a = Math.min(places.get(i), places.get(j));
+                Long b = Math.max(places.get(i), places.get(j));
+                pairs.add(List.of(String.valueOf(a), String.valueOf(b)));
+            }
+        }
+        return pairs;
+    }
+
+    // Redis 장애시 같은 일일일정에 있는 장소를 조인으로 집계
+    private LinkedHashMap<Long, Integer> selectAlsoAdded(Long smallBlockId, int limit) {
+        QDailyBlockConnect qDailyBlockConnect = QDailyBlockConnect.dailyBlockConnect;
+        QFullBlock qFullBlock = QFullBlock.fullBlock;
+        QDailyBlockConnect qOtherConnect = new QDailyBlockConnect("otherConnect");
+        QFullBlock qOtherBlock = new QFullBlock("otherBlock");
+
+        List<Tuple> rows = query.select(qOtherBlock.smallBlock.smallBlockId, qDailyBlockConnect.dailyCourse.dailyCourseId.countDistinct())
+                .from(qDailyBlockConnect)
+                .join(qDailyBlockConnect.fullBlock, qFullBlock)
+                .join(qOtherConnect).on(qOtherConnect.dailyCourse.dailyCourseId.eq(qDailyBlockConnect.dailyCourse.dailyCourseId))
+                .join(qOtherConnect.fullBlock, qOtherBlock)
+                .where(qFullBlock.smallBlock.smallBlockId.eq(smallBlockId),
+                        qOtherBlock.smallBlock.smallBlockId.ne(smallBlockId))
+                .groupBy(qOtherBlock.smallBlock.smallBlockId)
+                .orderBy(qDailyBlockConnect.dailyCourse.dailyCourseId.countDistinct().desc(), qOtherBlock.smallBlock.smallBlockId.desc())
+                .limit(limit)
+                .fetch();
+
+        LinkedHashMap<Long, Integer> counts = new LinkedHashMap<>();
+        rows.forEach(row -> counts.put(row.get(0, Long.class), row.get(1, Long.class).intValue()));
+        return counts;
+    }
+}
@@ -0,0 +1,404 @@
+package com.travelock.server.service.cache;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.FullBlock;
+import com.travelock.server.domain.QFullBlock;
+import com.travelock.server.domain.QSmallBlock;
+import com.travelock.server.domain.SmallBlock;
+import com.travelock.server.dto.BigBlockDTO;
+import com.travelock.server.dto.PlaceRankDTO;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 인기 장소 랭킹 (SmallBlock 참조 수)
+ * - key : place:top (전체), place:top:{구역} (시/도, 시/군/구, 카테고리, 지역 + 카테고리), Redis ZSET
+ *   (member : smallBlockId, score : 일정에 추가된 수), 구역은 장소가 추가된 FullBlock 의 BigBlock, MiddleBlock
+ * - 일정 저장시 블록마다 속한 구역 전체에 ZINCRBY 1, 일정 수정으로 빠진 블록은 -1 (커밋 이후 Lua 1번)
+ * - 장소 정보는 place:info Redis HASH (smallBlockId -> 장소), 조회는 ZREVRANGE + HMGET 2번 (DB 접근 없음)
+ * - 매일 FullBlock 기준(구역별로 추가된 수)으로 구역별 상위 N개로 다시 만듦 (반영 실패, 버퍼 유실 보정, 1개 인스턴스만 수행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceLeaderboardService {
+
+    private final JPAQueryFactory query;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisTemplate<String, Object> jsonRedisTemplate;
+    private final ReferenceDictionary referenceDictionary;
+
+    private static final String KEY_BASE = "place:top";
+    private static final String PARTITIONS_KEY = "place:top-partitions";
+    private static final String INFO_KEY = "place:info";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final int REBUILD_CHUNK_SIZE = 5000;
+    // 정리 락 (해제하지 않고 만료시킴, 시각이 조금 다른 인스턴스가 같은 날 다시 수행하지 않도록)
+    private static final String REBUILD_LOCK_KEY = "place:top-rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(30);
+
+    // KEYS[1] : 구역 목록 키, KEYS[i] (i >= 2) 랭킹에 ARGV[i] 장소 ARGV[1] 만큼 증가 (0 이하가 되면 제거)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #KEYS do " +
+            "  local score = tonumber(redis.call('ZINCRBY', KEYS[i], ARGV[1], ARGV[i])) " +
+            "  if score <= 0 then " +
+            "    redis.call('ZREM', KEYS[i], ARGV[i]) " +
+            "  else " +
+            "    redis.call('SADD', KEYS[1], KEYS[i]) " +
+            "  end " +
+            "end " +
+            "return #KEYS - 1",
+            Long.class);
+
+    @Value("${application.small-block.leaderboard-size:20}")
+    private int defaultSize;
+
+    @Value("${application.small-block.leaderboard-max-size:100}")
+    private int maxSize;
+
+    @Value("${application.small-block.leaderboard-ranking-size:1000}")
+    private int rankingSize;
+
+
+    /**
+     * 인기 장소 (참조 수 높은 순)
+     * - 필터 없음 : 전체, stateCode / stateCode + cityCode / category 조합으로 구역 선택
+     */
+    public List<PlaceRankDTO> getTopPlaces(String stateCode, String cityCode, String category, Integer size) {
+        int limit = size == null ? defaultSize : size;
+        if (limit < 1 || limit > maxSize) {
+            throw new BadRequestException("size must be between 1 and " + maxSize);
+        }
+        RankingPartition partition = RankingPartition.resolve(referenceDictionary, stateCode, cityCode, category);
+        String key = keyOf(partition);
+
+        try {
+            // ------------------------------------------------------------------------------ REDIS ZREVRANGE WITHSCORES (1)
+            Set<ZSetOperations.TypedTuple<String>> ranked = stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+            if (ranked == null || ranked.isEmpty()) {
+                return List.of();
+            }
+            return toPlaces(ranked);
+        } catch (DataAccessException e) {
+            log.warn("인기 장소 조회 실패, DB 조회 : {}", key, e);
+        }
+
+        // Redis 장애 --------------------------------------------------------------------------------- DB SELECT (1)
+        return selectTopPlaces(partition, limit);
+    }
+
+    /**블록이 가리키는 장소와 구역 (삭제할 블록은 엔티티를 읽지 않고 ID만으로 해제)*/
+    public record PlaceReference(Long smallBlockId, Long bigBlockId, Long middleBlockId) {
+        public static PlaceReference of(FullBlock fullBlock) {
+            return new PlaceReference(fullBlock.getSmallBlock().getSmallBlockId(),
+                    fullBlock.getBigBlock().getBigBlockId(), fullBlock.getMiddleBlock().getMiddleBlockId());
+        }
+    }
+
+    /**일정에 추가된 블록 반영 (트랜잭션 안에서 호출되면 커밋 이후, 새 장소는 ID 부여 후 호출)*/
+    public void recordReferences(List<FullBlock> fullBlocks) {
+        changeReferences(fullBlocks.stream().map(PlaceReference::of).toList(), 1);
+    }
+
+    /**일정 수정으로 빠진 블록 반영 (트랜잭션 안에서 호출되면 커밋 이후)*/
+    public void removeReferences(List<PlaceReference> references) {
+        changeReferences(references, -1);
+    }
+
+    private void changeReferences(List<PlaceReference> references, int delta) {
+        List<String> keys = new ArrayList<>();
+        List<String> members = new ArrayList<>();
+        keys.add(PARTITIONS_KEY);
+        for (PlaceReference reference : references) {
+            String member = String.valueOf(reference.smallBlockId());
+            keys.add(KEY_BASE);
+            members.add(member);
+            for (RankingPartition partition : RankingPartition.of(referenceDictionary, reference.bigBlockId(), reference.middleBlockId())) {
+                keys.add(keyOf(partition));
+                members.add(member);
+            }
+        }
+        if (members.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(keys, members, delta);
+                }
+            });
+        } else {
+            increment(keys, members, delta);
+        }
+    }
+
+    /**
+     * 장소 정보 (smallBlockId -> 장소, 없는 장소는 포함되지 않음)
+     * - place:info HASH 에서 HMGET 1번, 없는 장소만 DB 조회 후 저장 (Redis 장애시 DB 조회)
+     * - referenceCount 는 저장 시점 값 (랭킹 점수와 다를 수 있음)
+     */
+    public Map<Long, PlaceRankDTO> getPlaceInfos(List<Long> smallBlockIds) {
+        Map<Long, PlaceRankDTO> places = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        try {
+            List<Object> fields = new ArrayList<>();
+            smallBlockIds.forEach(id -> fields.add(String.valueOf(id)));
+
+            // ------------------------------------------------------------------------------------------ REDIS HMGET (1)
+            List<Object> cached = jsonRedisTemplate.opsForHash().multiGet(INFO_KEY, fields);
+            for (int i = 0; i < smallBlockIds.size(); i++) {
+                Object place = cached == null ? null : cached.get(i);
+                if (place instanceof PlaceRankDTO placeRankDTO) {
+                    places.put(smallBlockIds.get(i), placeRankDTO);
+                } else {
+                    missing.add(smallBlockIds.get(i));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("장소 정보 캐시 조회 실패, DB 조회 : {}개", smallBlockIds.size(), e);
+            missing = new ArrayList<>(smallBlockIds);
+        }
+        if (missing.isEmpty()) {
+            return places;
+        }
+
+        // 처음 조회되는 장소 -------------------------------------------------------------------------- DB SELECT (1)
+        QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
+        Map<String, Object> loaded = new HashMap<>();
+        for (SmallBlock smallBlock : query.selectFrom(qSmallBlock).where(qSmallBlock.smallBlockId.in(missing)).fetch()) {
+            PlaceRankDTO place = PlaceRankDTO.fromDomain(smallBlock);
+            places.put(smallBlock.getSmallBlockId(), place);
+            loaded.put(String.valueOf(smallBlock.getSmallBlockId()), place);
+        }
+        if (!loaded.isEmpty()) {
+            try {
+                jsonRedisTemplate.opsForHash().putAll(INFO_KEY, loaded);
+            } catch (DataAccessException e) {
+                log.warn("장소 정보 캐시 저장 실패 : {}개", loaded.size(), e);
+            }
+        }
+        return places;
+    }
+
+    /**
+     * FullBlock 기준으로 전체 구역 다시 만듦 (반영 실패, 버퍼 유실 보정)
+     * - 점수는 구역별로 그 구역에 추가된 FullBlock 수 (증분 Lua와 같은 기준, 전체 랭킹은 모든 FullBlock 수)
+     * - 장소 ID 순으로 5000개씩, 장소별 점수가 한 페이지 안에서 확정되므로 페이지마다 구역별 상위 rankingSize x 2 개만 유지
+     * - 모든 인스턴스에서 스케줄되므로 Redis 락(SET NX)을 얻은 인스턴스만 수행, Redis 쓰기는 파이프라인
+     */
+    @Scheduled(cron = "${application.small-block.leaderboard-rebuild-cron:0 10 5 * * *}")
+    public void rebuild() {
+        try {
+            // ------------------------------------------------------------------------------------- REDIS SET NX (1)
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.info("인기 장소 랭킹 정리는 다른 인스턴스에서 수행");
+                return;
+            }
+
+            QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
+            QFullBlock qFullBlock = QFullBlock.fullBlock;
+            NumberExpression<Long> blockCount = qFullBlock.count();
+
+            // 구역 키 -> (장소 ID -> 구역에 추가된 FullBlock 수)
+            Map<String, Map<Long, Double>> partitions = new HashMap<>();
+            partitions.put(KEY_BASE, new HashMap<>());
+            long placeCount = 0;
+            Long lastId = 0L;
+            while (true) {
+                // 장소 ID 5000개, 그 범위 장소의 지역/카테고리별 FullBlock 수 ---------------------- DB SELECT ( 장소 5000개당 2 )
+                List<Long> smallBlockIds = query.select(qSmallBlock.smallBlockId)
+                        .from(qSmallBlock)
+                        .where(qSmallBlock.smallBlockId.gt(lastId))
+                        .orderBy(qSmallBlock.smallBlockId.asc())
+                        .limit(REBUILD_CHUNK_SIZE)
+                        .fetch();
+                if (smallBlockIds.isEmpty()) {
+                    break;
+                }
+                Long firstId = smallBlockIds.get(0);
+                lastId = smallBlockIds.get(smallBlockIds.size() - 1);
+
+                List<Tuple> rows = query.select(qFullBlock.smallBlock.smallBlockId,
+                                qFullBlock.bigBlock.bigBlockId, qFullBlock.middleBlock.middleBlockId, blockCount)
+                        .from(qFullBlock)
+                        .where(qFullBlock.smallBlock.smallBlockId.between(firstId, lastId))
+                        .groupBy(qFullBlock.smallBlock.smallBlockId, qFullBlock.bigBlock.bigBlockId, qFullBlock.middleBlock.middleBlockId)
+                        .fetch();
+
+                Set<Long> referenced = new HashSet<>();
+                for (Tuple row : rows) {
+                    Long smallBlockId = row.get(qFullBlock.smallBlock.smallBlockId);
+                    double count = row.get(blockCount).doubleValue();
+                    referenced.add(smallBlockId);
+                    partitions.get(KEY_BASE).merge(smallBlockId, count, Double::sum);
+                    for (RankingPartition partition : RankingPartition.of(referenceDictionary,
+                            row.get(qFullBlock.bigBlock.bigBlockId), row.get(qFullBlock.middleBlock.middleBlockId))) {
+                        partitions.computeIfAbsent(keyOf(partition), k -> new HashMap<>()).merge(smallBlockId, count, Double::sum);
+                    }
+                }
+                placeCount += referenced.size();
+
+                partitions.replaceAll((key, places) -> places.size() > rankingSize * 2 ? top(places) : places);
+            }
+
+            // ------------------------------------------------------------------------------------ REDIS SMEMBERS (1)
+            Set<String> previous = stringRedisTemplate.opsForSet().members(PARTITIONS_KEY);
+            List<String> removed = previous == null ? List.of()
+                    : previous.stream().filter(key -> !partitions.containsKey(key)).toList();
+
+            // 구역별 임시 키에 만든 뒤 RENAME, 없어진 구역 삭제 ------------------------------------------ REDIS PIPELINE (1)
+            pipelined(operations -> {
+                partitions.forEach((key, places) -> {
+                    if (places.isEmpty()) {
+                        operations.delete(key);
+                        return;
+                    }
+                    Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                    top(places).forEach((smallBlockId, score) -> tuples.add(new DefaultTypedTuple<>(String.valueOf(smallBlockId), score)));
+
+                    String rebuildKey = key + REBUILD_SUFFIX;
+                    operations.delete(rebuildKey);
+                    operations.opsForZSet().add(rebuildKey, tuples);
+                    operations.rename(rebuildKey, key);
+                });
+                if (!removed.isEmpty()) {
+                    operations.delete(removed);
+                    operations.opsForSet().remove(PARTITIONS_KEY, removed.toArray());
+                }
+                operations.opsForSet().add(PARTITIONS_KEY, partitions.keySet().toArray(new String[0]));
+            });
+
+            // 장소 정보도 다시 채워지도록 삭제 (이름, 좌표 변경 반영)
+            jsonRedisTemplate.delete(INFO_KEY);
+            log.info("인기 장소 랭킹 정리 : 구역 {}개, 장소 {}개", partitions.size(), placeCount);
+        } catch (DataAccessException e) {
+            log.error("인기 장소 랭킹 정리 실패", e);
+        }
+    }
+
+    // 랭킹이 없으면(최초 실행, Redis 초기화) 시작시 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initLeaderboard() {
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PARTITIONS_KEY))) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("인기 장소 랭킹 확인 실패", e);
+        }
+    }
+
+
+    private void increment(List<String> keys, List<String> members, int delta) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(delta));
+        args.addAll(members);
+        try {
+            // -------------------------------------------------------------------------------------- REDIS EVALSHA (1)
+            stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            // 다음 정리 때 DB 기준으로 보정
+            log.warn("인기 장소 점수 반영 실패 : {}개 블록 ({})", members.size(), delta, e);
+        }
+    }
+
+    // 점수 높은 순(같으면 최신 장소 순) 상위 rankingSize 개
+    private Map<Long, Double> top(Map<Long, Double> places) {
+        Map<Long, Double> top = new LinkedHashMap<>();
+        places.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(rankingSize)
+                .forEach(place -> top.put(place.getKey(), place.getValue()));
+        return top;
+    }
+
+    // 명령을 응답을 기다리지 않고 이어서 보낸 뒤 한번에 응답 수신
+    private void pipelined(Consumer<RedisOperations<String, String>> commands) {
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    // 랭킹 순서대로 장소 정보 (referenceCount 는 랭킹 점수)
+    private List<PlaceRankDTO> toPlaces(Set<ZSetOperations.TypedTuple<String>> ranked) {
+        List<Long> smallBlockIds = new ArrayList<>();
+        ranked.forEach(tuple -> smallBlockIds.add(Long.valueOf(tuple.getValue())));
+        Map<Long, PlaceRankDTO> places = getPlaceInfos(smallBlockIds);
+
+        List<PlaceRankDTO> result = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : ranked) {
+            PlaceRankDTO place = places.get(Long.valueOf(tuple.getValue()));
+            if (place == null) {
+                continue; // 삭제된 장소
+            }
+            place.setReferenceCount(tuple.getScore() == null ? 0 : tuple.getScore().intValue());
+            result.add(place);
+        }
+        return result;
+    }
+
+    // Redis 장애시 참조 수 순 조회 (지역 필터는 FullBlock 조인)
+    private List<PlaceRankDTO> selectTopPlaces(RankingPartition partition, int limit) {
+        QSmallBlock qSmallBlock = QSmallBlock.smallBlock;
+        QFullBlock qFullBlock = QFullBlock.fullBlock;
+
+        if (partition.stateCode() == null && partition.bigBlockId() == null) {
+            return query.selectFrom(qSmallBlock)
+                    .where(qSmallBlock.referenceCount.gt(0),
+                            partition.middleBlockId() == null ? null : qSmallBlock.middleBlock.middleBlockId.eq(partition.middleBlockId()))
+                    .orderBy(qSmallBlock.referenceCount.desc(), qSmallBlock.smallBlockId.desc())
+                    .limit(limit)
+                    .fetch()
+                    .stream().map(PlaceRankDTO::fromDomain).toList();
+        }
+
+        BooleanExpression region = partition.bigBlockId() != null
+                ? qFullBlock.bigBlock.bigBlockId.eq(partition.bigBlockId())
+                : qFullBlock.bigBlock.bigBlockId.in(referenceDictionary.getCities(partition.stateCode()).stream().map(BigBlockDTO::getBigBlockId).toList());
+        return query.selectDistinct(qSmallBlock)
+                .from(qFullBlock)
+                .join(qFullBlock.smallBlock, qSmallBlock)
+                .where(qSmallBlock.referenceCount.gt(0), region,
+                        partition.middleBlockId() == null ? null : qFullBlock.middleBlock.middleBlockId.eq(partition.middleBlockId()))
+                .orderBy(qSmallBlock.referenceCount.desc(), qSmallBlock.smallBlockId.desc())
+                .limit(limit)
+                .fetch()
+                .stream().map(PlaceRankDTO::fromDomain).toList();
+    }
+
+    private String keyOf(RankingPartition partition) {
+        return partition.isEmpty() ? KEY_BASE : KEY_BASE + ":" + partition.suffix();
+    }
+}
@@ -0,0 +1,78 @@
+package com.travelock.server.service.cache;
+
+import com.travelock.server.dto.BigBlockDTO;
+import com.travelock.server.dto.MiddleBlockDTO;
+import com.travelock.server.exception.base_exceptions.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 지역/카테고리 랭킹 구역 (랭킹 키 접미사)
+ * - 시/도, 시/군/구(BigBlock), 카테고리(MiddleBlock), 시/도 + 카테고리, 시/군/구 + 카테고리
+ * - 시/군/구가 있으면 시/도는 키에 넣지 않음 (BigBlock ID가 시/도를 포함)
+ */
+record RankingPartition(String stateCode, Long bigBlockId, Long middleBlockId) {
+
+    boolean isEmpty() {
+        return stateCode == null && bigBlockId == null && middleBlockId == null;
+    }
+
+    // 빈 구역(필터 없음)은 "" -> 전체 랭킹 키 그대로 사용
+    String suffix() {
+        StringBuilder suffix = new StringBuilder();
+        if (bigBlockId != null) {
+            suffix.append("city:").append(bigBlockId);
+        } else if (stateCode != null) {
+            suffix.append("state:").append(stateCode);
+        }
+        if (middleBlockId != null) {
+            suffix.append(suffix.isEmpty() ? "" : ":").append("category:").append(middleBlockId);
+        }
+        return suffix.toString();
+    }
+
+    /**블록(시/군/구, 카테고리)이 속한 구역 전체 (없는 ID는 해당 구역 제외)*/
+    static List<RankingPartition> of(ReferenceDictionary referenceDictionary, Long bigBlockId, Long middleBlockId) {
+        List<RankingPartition> partitions = new ArrayList<>();
+        Optional<BigBlockDTO> bigBlock = bigBlockId == null ? Optional.empty() : referenceDictionary.getBigBlock(bigBlockId);
+        if (bigBlock.isPresent()) {
+            String stateCode = bigBlock.get().getStateCode();
+            partitions.add(new RankingPartition(stateCode, null, null));
+            partitions.add(new RankingPartition(stateCode, bigBlockId, null));
+            if (middleBlockId != null) {
+                partitions.add(new RankingPartition(stateCode, null, middleBlockId));
+                partitions.add(new RankingPartition(stateCode, bigBlockId, middleBlockId));
+            }
+        }
+        if (middleBlockId != null) {
+            partitions.add(new RankingPartition(null, null, middleBlockId));
+        }
+        return partitions;
+    }
+
+    /**요청 코드 -> 구역 (cityCode는 stateCode와 함께, 없는 코드는 400)*/
+    static RankingPartition resolve(ReferenceDictionary referenceDictionary, String stateCode, String cityCode, String category) {
+        if (cityCode != null && stateCode == null) {
+            throw new BadRequestException("stateCode is required with cityCode");
+        }
+
+        Long bigBlockId = null;
+        if (cityCode != null) {
+            bigBlockId = referenceDictionary.getBigBlock(stateCode, cityCode)
+                    .map(BigBlockDTO::getBigBlockId)
+                    .orElseThrow(() -> new BadRequestException("Unknown city : " + stateCode + "-" + cityCode));
+        } else if (stateCode != null && referenceDictionary.getCities(stateCode).isEmpty()) {
+            throw new BadRequestException("Unknown stateCode : " + stateCode);
+        }
+
+        Long middleBlockId = null;
+        if (category != null) {
+            middleBlockId = referenceDictionary.getCategory(category)
+                    .map(MiddleBlockDTO::getMiddleBlockId)
+                    .orElseThrow(() -> new BadRequestException("Unknown category : " + category));
+        }
+        return new RankingPartition(stateCode, bigBlockId, middleBlockId);
+    }
+}
@@ -0,0 +1,194 @@
+package com.travelock.server.service.cache;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.domain.*;
+import com.travelock.server.dto.BigBlockDTO;
+import com.travelock.server.dto.MiddleBlockDTO;
+import com.travelock.server.dto.StateDTO;
+import com.travelock.server.util.ETagUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 지역(시/도, 시/군/구), 카테고리 사전
+ * - data.sql 시드 데이터라 기동시 1번 읽어서 불변 스냅샷으로 보관 (조회시 DB 접근 없음)
+ * - 시드 데이터 변경시 reload()로 스냅샷 교체
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDictionary {
+
+    private final JPAQueryFactory query;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    // 스냅샷 다시 읽기 (새로 만든 뒤 한번에 교체, 읽는 쪽은 락 없음)
+    public synchronized void reload() {
+        QState qState = QState.state;
+        QBigBlock qBigBlock = QBigBlock.bigBlock;
+        QMiddleBlock qMiddleBlock = QMiddleBlock.middleBlock;
+
+        // ---------------------------------------------------------------------------------------------DB SELECT (1)
+        List<State> states = query.selectFrom(qState)
+                .orderBy(qState.stateId.asc())
+                .fetch();
+        // ---------------------------------------------------------------------------------------------DB SELECT (1)
+        List<BigBlock> bigBlocks = query.selectFrom(qBigBlock)
+                .join(qBigBlock.state, qState).fetchJoin()
+                .orderBy(qBigBlock.bigBlockId.asc())
+                .fetch();
+        // ---------------------------------------------------------------------------------------------DB SELECT (1)
+        List<MiddleBlock> middleBlocks = query.selectFrom(qMiddleBlock)
+                .orderBy(qMiddleBlock.middleBlockId.asc())
+                .fetch();
+
+        snapshot = new Snapshot(
+                states.stream().map(StateDTO::fromDomain).toList(),
+                bigBlocks.stream().map(BigBlockDTO::fromDomain).toList(),
+                middleBlocks.stream().map(MiddleBlockDTO::fromDomain).toList()
+        );
+        log.info("지역/카테고리 사전 로드 : states={}, bigBlocks={}, middleBlocks={}",
+                states.size(), bigBlocks.size(), middleBlocks.size());
+    }
+
+    public List<StateDTO> getStates() {
+        return current().states;
+    }
+
+    public String getStatesETag() {
+        return current().statesETag;
+    }
+
+    // 시/도에 속한 시/군/구 목록 (없는 시/도면 빈 리스트)
+    public List<BigBlockDTO> getCities(String stateCode) {
+        return current().citiesByState.getOrDefault(stateCode, List.of());
+    }
+
+    public String getCitiesETag(String stateCode) {
+        Snapshot current = current();
+        return current.citiesETags.getOrDefault(stateCode, current.emptyCitiesETag);
+    }
+
+    public Optional<BigBlockDTO> getBigBlock(String stateCode, String cityCode) {
+        return Optional.ofNullable(current().bigBlocksByCode.get(stateCode + ":" + cityCode));
+    }
+
+    public Optional<BigBlockDTO> getBigBlock(Long bigBlockId) {
+        return Optional.ofNullable(current().bigBlocksById.get(bigBlockId));
+    }
+
+    public List<MiddleBlockDTO> getCategories() {
+        return current().categories;
+    }
+
+    public String getCategoriesETag() {
+        return current().categoriesETag;
+    }
+
+    public Optional<MiddleBlockDTO> getCategory(String categoryCode) {
+        return Optional.ofNullable(current().categoriesByCode.get(categoryCode));
+    }
+
+    public Optional<MiddleBlockDTO> getCategory(Long middleBlockId) {
+        return Optional.ofNullable(current().categoriesById.get(middleBlockId));
+    }
+
+    // 기동 이벤트 전에 호출되면 그 자리에서 로드
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    // 불변 스냅샷 (모든 컬렉션은 읽기 전용)
+    private static final class Snapshot {
+        private final List<StateDTO> states;
+        private final Map<String, List<BigBlockDTO>> citiesByState;
+        private final Map<String, BigBlockDTO> bigBlocksByCode;
+        private final Map<Long, BigBlockDTO> bigBlocksById;
+        private final List<MiddleBlockDTO> categories;
+        private final Map<String, MiddleBlockDTO> categoriesByCode;
+        private final Map<Long, MiddleBlockDTO> categoriesById;
+
+        private final String statesETag;
+        private final Map<String, String> citiesETags;
+        private final String emptyCitiesETag;
+        private final String categoriesETag;
+
+        private Snapshot(List<StateDTO> states, List<BigBlockDTO> bigBlocks, List<MiddleBlockDTO> middleBlocks) {
+            this.states = List.copyOf(states);
+            this.categories = List.copyOf(middleBlocks);
+
+            Map<String, List<BigBlockDTO>> cities = new LinkedHashMap<>();
+            Map<String, BigBlockDTO> byCode = new HashMap<>();
+            Map<Long, BigBlockDTO> byId = new HashMap<>();
+            for (BigBlockDTO bigBlock : bigBlocks) {
+                cities.computeIfAbsent(bigBlock.getStateCode(), k -> new ArrayList<>()).add(bigBlock);
+                byCode.put(bigBlock.getStateCode() + ":" + bigBlock.getCityCode(), bigBlock);
+                byId.put(bigBlock.getBigBlockId(), bigBlock);
+            }
+            Map<String, List<BigBlockDTO>> frozenCities = new HashMap<>();
+            cities.forEach((stateCode, list) -> frozenCities.put(stateCode, List.copyOf(list)));
+            this.citiesByState = Map.copyOf(frozenCities);
+            this.bigBlocksByCode = Map.copyOf(byCode);
+            this.bigBlocksById = Map.copyOf(byId);
+
+            Map<String, MiddleBlockDTO> categoryByCode = new HashMap<>();
+            Map<Long, MiddleBlockDTO> categoryById = new HashMap<>();
+            for (MiddleBlockDTO middleBlock : middleBlocks) {
+                categoryByCode.put(middleBlock.getCategoryCode(), middleBlock);
+                categoryById.put(middleBlock.getMiddleBlockId(), middleBlock);
+            }
+            this.categoriesByCode = Map.copyOf(categoryByCode);
+            this.categoriesById = Map.copyOf(categoryById);
+
+            // ETag도 스냅샷과 함께 계산 (reload 하면 같이 바뀜)
+            StringBuilder content = new StringBuilder();
+            for (StateDTO state : this.states) {
+                content.append(state.getStateId()).append(':')
+                        .append(state.getStateCode()).append(':')
+                        .append(state.getStateName()).append('\n');
+            }
+            this.statesETag = ETagUtil.contentTag(content.toString());
+
+            Map<String, String> cityTags = new HashMap<>();
+            this.citiesByState.forEach((stateCode, list) -> {
+                StringBuilder cityContent = new StringBuilder(stateCode).append('\n');
+                for (BigBlockDTO bigBlock : list) {
+                    cityContent.append(bigBlock.getBigBlockId()).append(':')
+                            .append(bigBlock.getCityCode()).append(':')
+                            .append(bigBlock.getCityName()).append('\n');
+                }
+                cityTags.put(stateCode, ETagUtil.contentTag(cityContent.toString()));
+            });
+            this.citiesETags = Map.copyOf(cityTags);
+            this.emptyCitiesETag = ETagUtil.contentTag("");
+
+            content.setLength(0);
+            for (MiddleBlockDTO middleBlock : this.categories) {
+                content.append(middleBlock.getMiddleBlockId()).append(':')
+                        .append(middleBlock.getCategoryCode()).append(':')
+                        .append(middleBlock.getCategoryName()).append('\n');
+            }
+            this.categoriesETag = ETagUtil.contentTag(content.toString());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.travelock.server.service.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SmallBlock 참조 수 write-behind 버퍼
+ * - 일정 저장마다 small_block 행을 UPDATE 하면 인기 장소 행에 락이 몰림
+ * - 일정에 추가된 블록은 +1, 일정 수정으로 빠진 블록은 -1
+ * - smallBlockId별 LongAdder에 누적하고 주기적으로(그리고 종료시) 더한 값만큼 배치 UPDATE
+ * - 배치 UPDATE는 별도 트랜잭션 1개, 실패하면 전체 롤백 후 차감한 값을 버퍼에 되돌려서 다음 flush에서 재시도
+ *   (참조 수는 다시 계산하지 않으므로 일부 행만 반영된 채 되돌려 두번 더해지지 않도록)
+ */
+@Service
+@Slf4j
+public class SmallBlockReferenceCountBuffer {
+
+    private static final String UPDATE_SQL =
+            "UPDATE small_block SET reference_count = reference_count + ? WHERE small_block_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+
+    // 증가, 제거는 키 단위 compute로 원자적으로 수행 (제거와 증가가 겹쳐 값이 유실되지 않도록)
+    // flush 사이에 변경이 없었던 키는 flush에서 제거
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public SmallBlockReferenceCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushTimer = Timer.builder("small_block.reference_count.flush")
+                .description("참조 수 버퍼 flush 시간")
+                .register(meterRegistry);
+        Gauge.builder("small_block.reference_count.pending", this, SmallBlockReferenceCountBuffer::pendingDelta)
+                .description("DB에 반영되지 않은 참조 수 합계")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long smallBlockId) {
+        change(smallBlockId, 1);
+    }
+
+    public void decrement(Long smallBlockId) {
+        change(smallBlockId, -1);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 누적 (롤백된 일정은 세지 않음)
+    private void change(Long smallBlockId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(smallBlockId, delta);
+                }
+            });
+        } else {
+            add(smallBlockId, delta);
+        }
+    }
+
+    public long pendingDelta() {
+        long sum = 0;
+        for (LongAdder adder : pending.values()) {
+            sum += Math.abs(adder.sum()); // 증가와 차감이 상쇄되지 않게
+        }
+        return sum;
+    }
+
+    @Scheduled(fixedDelayString = "${application.small-block.reference-flush-interval:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 정상 종료시 남은 값 반영 (JdbcTemplate보다 먼저 소멸됨)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long remaining = pendingDelta();
+        if (remaining > 0) {
+            log.error("종료시 참조 수 반영 실패 : {}건", remaining);
+        }
+    }
+
+    public synchronized void flush() {
+        // 값만 꺼내고 0으로 초기화 (꺼낸 뒤 들어온 증가는 다음 flush에서 반영)
+        Map<Long, Long> deltas = new TreeMap<>(); // id 순서로 UPDATE 해서 행 락 순서를 고정
+        List<Long> idleIds = new ArrayList<>();
+        pending.forEach((smallBlockId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(smallBlockId, delta);
+            } else {
+                idleIds.add(smallBlockId);
+            }
+        });
+        // 지난 flush 이후 변경이 없던 키 제거 (그 사이 변경이 있었으면 유지)
+        idleIds.forEach(smallBlockId -> pending.computeIfPresent(smallBlockId, (id, adder) -> adder.sum() == 0 ? null : adder));
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(deltas.entrySet());
+        try {
+            // 실패하면 배치 전체가 롤백되므로 되돌려도 두번 더해지지 않음 ---------------------------- DB UPDATE (배치 1)
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+                        ps.setLong(1, row.getValue());
+                        ps.setLong(2, row.getKey());
+                    })));
+            log.debug("참조 수 flush : {}개 장소", rows.size());
+        } catch (DataAccessException e) {
+            log.error("참조 수 flush 실패, 버퍼로 되돌림 : {}개 장소", rows.size(), e);
+            rows.forEach(row -> add(row.getKey(), row.getValue()));
+        }
+    }
+
+    private void add(Long smallBlockId, long delta) {
+        pending.compute(smallBlockId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+}
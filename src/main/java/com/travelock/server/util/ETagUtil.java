@@ -0,0 +1,49 @@
+package com.travelock.server.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 조건부 조회(If-None-Match / 304)에 사용하는 ETag 생성, 비교 클래스
+public class ETagUtil {
+
+    // DB 상태 기반 ETag (예: "full-1-3-10-2", @Version과 좋아요/스크랩 수 등, 값이 없으면 0)
+    public static String stateTag(String type, Long id, Object... state) {
+        StringBuilder tag = new StringBuilder("\"").append(type).append("-").append(id);
+        for (Object value : state) {
+            tag.append("-").append(value == null ? 0 : value);
+        }
+        return tag.append("\"").toString();
+    }
+
+    // 내용 기반 ETag (SHA-256 앞 16바이트)
+    public static String contentTag(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    // If-None-Match 헤더 값과 ETag 비교 (여러 값, *, W/ 약한 비교 지원)
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
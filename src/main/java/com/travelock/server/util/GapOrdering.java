@@ -0,0 +1,181 @@
+package com.travelock.server.util;
+
+import java.util.*;
+
+/**
+ * 간격(GAP)을 둔 정렬 키 계산 클래스 (blockNum, dailyNum)
+ * - 새로 저장할 때는 1024, 2048, 3072 ... 으로 저장
+ * - 이동/추가시 이미 순서가 맞는 키는 그대로 두고 나머지만 앞뒤 키 사이 값으로 변경 (보통 1행만 변경)
+ * - 사이에 넣을 값이 없을 때만 전체를 다시 1024 간격으로 재배치
+ */
+public class GapOrdering {
+
+    public static final int GAP = 1024;
+
+    // n개 키를 GAP 간격으로 새로 만듦
+    public static List<Integer> initial(int size) {
+        List<Integer> keys = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            keys.add(i * GAP);
+        }
+        return keys;
+    }
+
+    // N번째(1부터) 위치의 초기 키
+    public static int keyOf(int position) {
+        return position * GAP;
+    }
+
+    // 요청한 순서 번호(1, 2, 3... 빈 번호나 중복 허용)를 입력 순서 그대로 정렬 키로 변환 (null은 맨 뒤)
+    public static List<Integer> keysFor(List<Integer> positions) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < positions.size(); i++) {
+            indexes.add(i);
+        }
+        indexes.sort(Comparator.comparing(positions::get, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Integer[] keys = new Integer[positions.size()];
+        for (int rank = 0; rank < indexes.size(); rank++) {
+            keys[indexes.get(rank)] = keyOf(rank + 1);
+        }
+        return Arrays.asList(keys);
+    }
+
+    /**
+     * 원하는 순서대로 나열한 현재 키 목록(새 항목은 null)을 받아서 새 키 목록 반환
+     * - 증가하는 가장 긴 부분 수열의 키는 유지, 나머지만 새 키를 받음
+     * - 반환 리스트와 입력 리스트를 비교해서 달라진 위치만 UPDATE 하면 됨
+     */
+    public static List<Integer> reassign(List<Integer> currentKeys) {
+        int size = currentKeys.size();
+        boolean[] keep = longestIncreasing(currentKeys);
+
+        List<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(keep[i] ? currentKeys.get(i) : null);
+        }
+
+        int i = 0;
+        while (i < size) {
+            if (result.get(i) != null) {
+                i++;
+                continue;
+            }
+
+            // 비어있는 구간 [i, j) 과 앞뒤 유지되는 키
+            int j = i;
+            while (j < size && result.get(j) == null) {
+                j++;
+            }
+            long lower = (i == 0) ? 0 : result.get(i - 1);
+            int count = j - i;
+
+            if (j == size) {
+                // 뒤에 유지되는 키가 없으면 GAP씩 증가
+                for (int k = 0; k < count; k++) {
+                    long key = lower + (long) GAP * (k + 1);
+                    if (key > Integer.MAX_VALUE) {
+                        return initial(size);
+                    }
+                    result.set(i + k, (int) key);
+                }
+            } else {
+                long upper = result.get(j);
+                long step = (upper - lower) / (count + 1);
+                if (step < 1) {
+                    return initial(size); // 사이에 넣을 값이 없으면 전체 재배치
+                }
+                for (int k = 0; k < count; k++) {
+                    result.set(i + k, (int) (lower + step * (k + 1)));
+                }
+            }
+            i = j;
+        }
+        return result;
+    }
+
+    /**
+     * 항목 하나를 afterId 바로 뒤로(null 이면 맨 앞으로) 이동
+     * - orderedKeys : 현재 순서대로 정렬된 ID -> 정렬 키
+     * - 반환 : 키가 바뀐 ID -> 새 키 (보통 이동한 항목 1개), ID가 목록에 없으면 null
+     */
+    public static <K> Map<K, Integer> move(LinkedHashMap<K, Integer> orderedKeys, K movingId, K afterId) {
+        if (!orderedKeys.containsKey(movingId) || movingId.equals(afterId)
+                || (afterId != null && !orderedKeys.containsKey(afterId))) {
+            return null;
+        }
+
+        List<K> order = new ArrayList<>(orderedKeys.keySet());
+        order.remove(movingId);
+        order.add(afterId == null ? 0 : order.indexOf(afterId) + 1, movingId);
+
+        List<Integer> currentKeys = new ArrayList<>();
+        for (K id : order) {
+            currentKeys.add(orderedKeys.get(id));
+        }
+        List<Integer> newKeys = reassign(currentKeys);
+
+        Map<K, Integer> changed = new LinkedHashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            if (!Objects.equals(currentKeys.get(i), newKeys.get(i))) {
+                changed.put(order.get(i), newKeys.get(i));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 새 항목 하나를 position 번째(1부터, 범위를 벗어나면 맨 앞/맨 뒤)에 추가
+     * - orderedKeys : 현재 순서대로 정렬된 ID -> 정렬 키 (newId는 없어야 함)
+     * - 반환 : 새 항목과 키가 바뀐 ID -> 새 키 (보통 새 항목 1개, 앞뒤 키 사이 값)
+     */
+    public static <K> Map<K, Integer> insert(LinkedHashMap<K, Integer> orderedKeys, K newId, int position) {
+        List<K> order = new ArrayList<>(orderedKeys.keySet());
+        order.add(Math.max(0, Math.min(position - 1, order.size())), newId);
+
+        List<Integer> currentKeys = new ArrayList<>();
+        for (K id : order) {
+            currentKeys.add(id.equals(newId) ? null : orderedKeys.get(id));
+        }
+        List<Integer> newKeys = reassign(currentKeys);
+
+        Map<K, Integer> changed = new LinkedHashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            if (!Objects.equals(currentKeys.get(i), newKeys.get(i))) {
+                changed.put(order.get(i), newKeys.get(i));
+            }
+        }
+        return changed;
+    }
+
+    // null이 아니고 순증가하는 가장 긴 부분 수열 표시 (일정 블록 수 수준이라 O(n^2))
+    private static boolean[] longestIncreasing(List<Integer> keys) {
+        int size = keys.size();
+        int[] length = new int[size];
+        int[] prev = new int[size];
+        int best = -1;
+
+        for (int i = 0; i < size; i++) {
+            prev[i] = -1;
+            if (keys.get(i) == null || keys.get(i) <= 0) {
+                continue;
+            }
+            length[i] = 1;
+            for (int j = 0; j < i; j++) {
+                if (length[j] > 0 && keys.get(j) < keys.get(i) && length[j] + 1 > length[i]) {
+                    length[i] = length[j] + 1;
+                    prev[i] = j;
+                }
+            }
+            if (best < 0 || length[i] > length[best]) {
+                best = i;
+            }
+        }
+
+        boolean[] keep = new boolean[size];
+        for (int i = best; i >= 0; i = prev[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,47 @@
+package com.travelock.server.util;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 시간 감쇠 인기 점수 (반감기 halfLife)
+ * - 실제 값 : 이벤트마다 2^(-(now - t) / halfLife) 를 더한 합
+ * - 저장 값 : log(Σ e^(λ·t)), λ = ln2 / halfLife -> 이벤트마다 logaddexp 로 1개 점수만 갱신
+ * - 모든 점수가 같은 비율로 감쇠하므로 저장 값 순서 = 현재 인기 순서 (전체 재계산 불필요)
+ */
+public class HotScore {
+
+    // 저장 값 크기를 줄이기 위한 기준 시각 (이후 1년에 약 365 * 24 / 반감기(시간) * ln2 증가)
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final double lambda; // 초당 감쇠율
+
+    public HotScore(Duration halfLife) {
+        if (halfLife == null || halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("halfLife must be positive");
+        }
+        this.lambda = Math.log(2) / halfLife.getSeconds();
+    }
+
+    // 시각 at 에 발생한 이벤트 1건의 저장 값 (log 공간)
+    public double increment(Instant at) {
+        return lambda * Duration.between(EPOCH, at).getSeconds();
+    }
+
+    // 기존 저장 값에 시각 at 이벤트 1건 추가 (기존 값이 없으면 이벤트 값 그대로)
+    public double add(Double current, Instant at) {
+        double increment = increment(at);
+        return current == null ? increment : logAddExp(current, increment);
+    }
+
+    // 저장 값을 now 기준 실제 값(감쇠된 이벤트 수)으로 변환
+    public double decayedValue(double score, Instant now) {
+        return Math.exp(score - increment(now));
+    }
+
+    // log(e^a + e^b), 큰 값 기준으로 계산해서 overflow 방지
+    public static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+}
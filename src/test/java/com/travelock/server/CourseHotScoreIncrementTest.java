@@ -0,0 +1,146 @@
+package com.travelock.server;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.travelock.server.service.cache.CourseRecommendService;
+import com.travelock.server.service.cache.CourseRegionRankingService;
+import com.travelock.server.service.cache.PersonalRecommendService;
+import com.travelock.server.util.HotScore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 최근 인기 점수 갱신 (CourseRecommendService.increaseHot)
+ * - 새 점수는 Java HotScore.add 로만 계산, Redis 스크립트는 읽은 값이 그대로일 때만 저장
+ * - 이벤트당 Redis 호출 수가 일정함 (랭킹 전체를 읽지 않음)
+ */
+@ExtendWith(MockitoExtension.class)
+class CourseHotScoreIncrementTest {
+
+    private static final String HOT_KEY = "hot:full";
+    private static final Duration HALF_LIFE = Duration.ofHours(72);
+
+    @Mock
+    private JPAQueryFactory query;
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private CourseRegionRankingService courseRegionRankingService;
+
+    @Mock
+    private PersonalRecommendService personalRecommendService;
+
+    private final HotScore hotScore = new HotScore(HALF_LIFE);
+    private CourseRecommendService courseRecommendService;
+
+    @BeforeEach
+    void setUp() {
+        courseRecommendService = new CourseRecommendService(query, stringRedisTemplate, courseRegionRankingService, personalRecommendService);
+        ReflectionTestUtils.setField(courseRecommendService, "hotHalfLifeHours", HALF_LIFE.toHours());
+        courseRecommendService.initHotScore();
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("점수가 없던 일정은 이벤트 1건의 값으로 저장한다.")
+    void increaseHot_FirstEvent() {
+        // given
+        when(zSetOperations.score(HOT_KEY, "1")).thenReturn(null);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(HOT_KEY)), eq("1"), eq(""), anyString())).thenReturn(1L);
+
+        // when
+        Instant before = Instant.now();
+        courseRecommendService.increaseFullCourse(1L);
+        Instant after = Instant.now();
+
+        // then
+        double saved = capturedScore("1", "");
+        assertThat(saved).isBetween(hotScore.add(null, before), hotScore.add(null, after));
+    }
+
+    @Test
+    @DisplayName("기존 점수에 HotScore.add 로 합친 값을 읽은 값과 함께 보낸다.")
+    void increaseHot_MergesWithJava() {
+        // given
+        double current = hotScore.add(hotScore.add(null, Instant.now().minus(HALF_LIFE)), Instant.now());
+        when(zSetOperations.score(HOT_KEY, "1")).thenReturn(current);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(HOT_KEY)), eq("1"), eq(String.valueOf(current)), anyString())).thenReturn(1L);
+
+        // when
+        Instant before = Instant.now();
+        courseRecommendService.increaseFullCourse(1L);
+        Instant after = Instant.now();
+
+        // then : 1 + 0.5 에 1건 추가
+        double saved = capturedScore("1", String.valueOf(current));
+        assertThat(saved).isBetween(hotScore.add(current, before), hotScore.add(current, after));
+        assertThat(hotScore.decayedValue(saved, after)).isBetween(2.49, 2.51);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 요청이 점수를 바꿨으면 다시 읽어서 합친다.")
+    void increaseHot_RetriesOnConflict() {
+        // given : 첫 읽기 후 다른 요청이 먼저 저장
+        double first = hotScore.add(null, Instant.now());
+        double second = hotScore.add(first, Instant.now());
+        when(zSetOperations.score(HOT_KEY, "1")).thenReturn(first, second);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(HOT_KEY)), eq("1"), anyString(), anyString()))
+                .thenReturn(0L, 1L);
+
+        // when
+        courseRecommendService.increaseFullCourse(1L);
+
+        // then
+        verify(zSetOperations, times(2)).score(HOT_KEY, "1");
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(HOT_KEY)), eq("1"), eq(String.valueOf(first)), anyString());
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(HOT_KEY)), eq("1"), eq(String.valueOf(second)), anyString());
+    }
+
+    @Test
+    @DisplayName("이벤트 수와 관계없이 이벤트당 ZSCORE 1번, 스크립트 1번만 호출한다.")
+    void increaseHot_ConstantCostPerEvent() {
+        // given
+        int events = 1000;
+        when(zSetOperations.score(eq(HOT_KEY), anyString())).thenReturn(null);
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(HOT_KEY)), anyString(), anyString(), anyString())).thenReturn(1L);
+
+        // when
+        for (long courseId = 1; courseId <= events; courseId++) {
+            courseRecommendService.increaseFullCourse(courseId % 10 + 1);
+        }
+
+        // then : 최근 인기 랭킹은 점수 1개 읽기/쓰기만, 범위 조회 없음
+        verify(zSetOperations, times(events)).score(eq(HOT_KEY), anyString());
+        verify(stringRedisTemplate, times(events)).execute(any(RedisScript.class), eq(List.of(HOT_KEY)), anyString(), anyString(), anyString());
+        verify(zSetOperations, never()).reverseRangeWithScores(eq(HOT_KEY), anyLong(), anyLong());
+        verify(zSetOperations, never()).rangeWithScores(eq(HOT_KEY), anyLong(), anyLong());
+    }
+
+    // 스크립트에 보낸 새 점수 (ARGV[3])
+    private double capturedScore(String member, String expected) {
+        ArgumentCaptor<String> score = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(HOT_KEY)), eq(member), eq(expected), score.capture());
+        return Double.parseDouble(score.getValue());
+    }
+}
@@ -0,0 +1,147 @@
+package com.travelock.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelock.server.dto.FullCourseRequestDTO;
+import com.travelock.server.dto.course.daily_modify.DailyCourseModifyDto;
+import com.travelock.server.exception.base_exceptions.ResourceNotFoundException;
+import com.travelock.server.exception.course.CourseVersionConflictException;
+import com.travelock.server.service.DailyCourseService;
+import com.travelock.server.service.FullBlockResolver;
+import com.travelock.server.service.FullCourseService;
+import com.travelock.server.service.cache.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 수정 버전 확인 (실제 UPDATE 조건, 0행일 때 404/409 구분)
+ * - 서비스는 실제 빈, Redis 캐시/버퍼만 목
+ */
+@Import({FullCourseService.class, DailyCourseService.class})
+class CourseVersionCheckTest extends JpaTestSupport {
+
+    private static final long STORED_VERSION = 3L;
+    private static final long OTHER_MEMBER_ID = 2L;
+
+    @Autowired
+    private FullCourseService fullCourseService;
+
+    @Autowired
+    private DailyCourseService dailyCourseService;
+
+    @MockBean
+    private ObjectMapper objectMapper;
+    @MockBean
+    private FullBlockResolver fullBlockResolver;
+    @MockBean
+    private CourseSnapshotCacheService courseSnapshotCacheService;
+    @MockBean
+    private CourseCountBuffer courseCountBuffer;
+    @MockBean
+    private CourseRecommendService courseRecommendService;
+    @MockBean
+    private CourseRegionRankingService courseRegionRankingService;
+    @MockBean
+    private CourseInteractionCacheService courseInteractionCacheService;
+    @MockBean
+    private PlaceCooccurrenceService placeCooccurrenceService;
+    @MockBean
+    private PersonalRecommendService personalRecommendService;
+
+    @BeforeEach
+    void setUp() {
+        insertFullCourse(1L, STORED_VERSION);
+        insertDailyCourse(1L, STORED_VERSION);
+        flushAndClear();
+    }
+
+    @Test
+    @DisplayName("조회한 버전이 맞으면 제목을 수정하고 버전을 1 올린다.")
+    void modifyTitle_SameVersion() {
+        // when
+        fullCourseService.modifyTitle(new FullCourseRequestDTO(1L, MEMBER_ID, "new title", null, null, STORED_VERSION));
+
+        // then
+        assertThat(fullCourseTitle()).isEqualTo("new title");
+        assertThat(version("full_course", "full_course_id")).isEqualTo(STORED_VERSION + 1);
+    }
+
+    @Test
+    @DisplayName("제목 수정시 버전이 다르면 현재 버전을 담아 409, 제목과 버전은 그대로다.")
+    void modifyTitle_StaleVersion() {
+        // when
+        CourseVersionConflictException e = catchThrowableOfType(
+                () -> fullCourseService.modifyTitle(new FullCourseRequestDTO(1L, MEMBER_ID, "new title", null, null, STORED_VERSION - 1)),
+                CourseVersionConflictException.class);
+
+        // then
+        assertThat(e).isNotNull();
+        assertThat(e.getCurrentVersion()).isEqualTo(STORED_VERSION);
+        assertThat(fullCourseTitle()).isEqualTo("title");
+        assertThat(version("full_course", "full_course_id")).isEqualTo(STORED_VERSION);
+    }
+
+    @Test
+    @DisplayName("제목 수정시 작성자가 아니면 버전이 맞아도 404다.")
+    void modifyTitle_OtherMember() {
+        // when, then
+        assertThatThrownBy(() -> fullCourseService.modifyTitle(
+                new FullCourseRequestDTO(1L, OTHER_MEMBER_ID, "new title", null, null, STORED_VERSION)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(fullCourseTitle()).isEqualTo("title");
+    }
+
+    @Test
+    @DisplayName("일일일정 수정시 버전이 다르면 현재 버전을 담아 409, 버전은 그대로다.")
+    void modifyDailyCourse_StaleVersion() {
+        // when
+        CourseVersionConflictException e = catchThrowableOfType(
+                () -> dailyCourseService.modifyDailyCourse(new DailyCourseModifyDto(1L, MEMBER_ID, STORED_VERSION - 1, List.of())),
+                CourseVersionConflictException.class);
+
+        // then
+        assertThat(e).isNotNull();
+        assertThat(e.getCurrentVersion()).isEqualTo(STORED_VERSION);
+        assertThat(version("daily_course", "daily_course_id")).isEqualTo(STORED_VERSION);
+    }
+
+    @Test
+    @DisplayName("일일일정 수정시 작성자가 아니면 버전이 맞아도 404다.")
+    void modifyDailyCourse_OtherMember() {
+        // when, then
+        assertThatThrownBy(() -> dailyCourseService.modifyDailyCourse(
+                new DailyCourseModifyDto(1L, OTHER_MEMBER_ID, STORED_VERSION, List.of())))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(version("daily_course", "daily_course_id")).isEqualTo(STORED_VERSION);
+    }
+
+    @Test
+    @DisplayName("없는 일일일정은 409가 아니라 404다.")
+    void modifyDailyCourse_NotFound() {
+        // when, then
+        assertThatThrownBy(() -> dailyCourseService.modifyDailyCourse(
+                new DailyCourseModifyDto(99L, MEMBER_ID, STORED_VERSION, List.of())))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    // 벌크 UPDATE 결과를 DB 에서 다시 읽음
+    private long version(String table, String idColumn) {
+        em.clear();
+        Object version = em.createNativeQuery("SELECT version FROM " + table + " WHERE " + idColumn + " = 1").getSingleResult();
+        return ((Number) version).longValue();
+    }
+
+    private String fullCourseTitle() {
+        em.clear();
+        return (String) em.createNativeQuery("SELECT title FROM full_course WHERE full_course_id = 1").getSingleResult();
+    }
+}
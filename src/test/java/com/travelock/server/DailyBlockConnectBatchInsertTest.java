@@ -0,0 +1,84 @@
+package com.travelock.server;
+
+import com.travelock.server.domain.DailyBlockConnect;
+import com.travelock.server.domain.DailyCourse;
+import com.travelock.server.domain.FullBlock;
+import com.travelock.server.repository.DailyBlockConnectRepository;
+import org.hibernate.BaseSessionEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session.events.auto=com.travelock.server.DailyBlockConnectBatchInsertTest$JdbcBatchCounter")
+class DailyBlockConnectBatchInsertTest extends JpaTestSupport {
+
+    private static final int BLOCK_COUNT = 200;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private DailyBlockConnectRepository dailyBlockConnectRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 연결 대상 일일일정, 블록
+        insertDailyCourse(1L, 0);
+        insertFullBlock(1L, 1L);
+        flushAndClear();
+    }
+
+    @Test
+    @DisplayName("시퀀스 ID를 쓰는 DailyBlockConnect는 건별이 아니라 배치로 INSERT 된다.")
+    void saveAll_UsesJdbcBatch() {
+        // given
+        DailyCourse dailyCourse = em.getReference(DailyCourse.class, 1L);
+        FullBlock fullBlock = em.getReference(FullBlock.class, 1L);
+        List<DailyBlockConnect> connects = new ArrayList<>();
+        for (int i = 1; i <= BLOCK_COUNT; i++) {
+            DailyBlockConnect connect = new DailyBlockConnect();
+            connect.createNewConnect(dailyCourse, fullBlock, i);
+            connects.add(connect);
+        }
+
+        // when
+        JdbcBatchCounter.reset();
+        dailyBlockConnectRepository.saveAll(connects);
+        em.flush();
+
+        // then
+        // 배치 INSERT 50개당 1번 (IDENTITY였다면 건별 INSERT 200번)
+        assertThat(JdbcBatchCounter.BATCHES.get()).isEqualTo(BLOCK_COUNT / BATCH_SIZE);
+        // 배치 외 단건 실행은 시퀀스 조회뿐 (50개당 1번, pooled 최초 조회 1번 추가)
+        assertThat(JdbcBatchCounter.STATEMENTS.get()).isLessThanOrEqualTo(BLOCK_COUNT / BATCH_SIZE + 1);
+        assertThat(dailyBlockConnectRepository.count()).isEqualTo(BLOCK_COUNT);
+    }
+
+    // 세션별 JDBC 실행 횟수 (배치 실행, 단건 실행)
+    public static class JdbcBatchCounter extends BaseSessionEventListener {
+        static final AtomicInteger BATCHES = new AtomicInteger();
+        static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+        static void reset() {
+            BATCHES.set(0);
+            STATEMENTS.set(0);
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            STATEMENTS.incrementAndGet();
+        }
+    }
+}
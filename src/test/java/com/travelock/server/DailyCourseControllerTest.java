@@ -0,0 +1,75 @@
+package com.travelock.server;
+
+import com.travelock.server.controller.DailyCourseController;
+import com.travelock.server.exception.GlobalExceptionHandler;
+import com.travelock.server.exception.course.CourseVersionConflictException;
+import com.travelock.server.service.DailyCourseService;
+import com.travelock.server.service.cache.CourseInteractionCacheService;
+import com.travelock.server.service.cache.CourseRecommendService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyCourseControllerTest {
+
+    private static final String MODIFY_BODY =
+            "{\"dailyCourseId\":1,\"memberId\":7,\"version\":3,\"fullBlockDtoList\":[]}";
+
+    @Mock
+    private DailyCourseService dailyCourseService;
+
+    @Mock
+    private CourseRecommendService courseRecommendService;
+
+    @Mock
+    private CourseInteractionCacheService courseInteractionCacheService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DailyCourseController controller =
+                new DailyCourseController(dailyCourseService, courseRecommendService, courseInteractionCacheService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("조회한 버전과 현재 버전이 다르면 409와 현재 버전을 반환한다.")
+    void modify_VersionConflict() throws Exception {
+        // given
+        doThrow(new CourseVersionConflictException("Daily Course(1) was modified by another request", 4L))
+                .when(dailyCourseService).modifyDailyCourse(any());
+
+        // when, then
+        mockMvc.perform(put("/api/course/daily").contentType(MediaType.APPLICATION_JSON).content(MODIFY_BODY))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.currentVersion").value(4));
+    }
+
+    @Test
+    @DisplayName("JPA 버전 충돌(@Version)도 409를 반환한다.")
+    void modify_OptimisticLockingFailure() throws Exception {
+        // given
+        doThrow(new ObjectOptimisticLockingFailureException("DailyCourse", 1L))
+                .when(dailyCourseService).modifyDailyCourse(any());
+
+        // when, then
+        mockMvc.perform(put("/api/course/daily").contentType(MediaType.APPLICATION_JSON).content(MODIFY_BODY))
+                .andExpect(status().isConflict());
+    }
+}
@@ -0,0 +1,86 @@
+package com.travelock.server;
+
+import com.travelock.server.dto.DailyCourseResponseDTO;
+import com.travelock.server.repository.DailyCourseRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DailyCourseRepositoryTest extends JpaTestSupport {
+
+    @Autowired
+    private DailyCourseRepository dailyCourseRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("블록이 1개인 일일일정 상세는 쿼리 2번으로 조회된다.")
+    void findDailyCourseDetail_SingleBlock() {
+        // given
+        createDailyCourse(1L, 1);
+
+        // when
+        statistics.clear();
+        DailyCourseResponseDTO result = dailyCourseRepository.findDailyCourseDetail(1L);
+
+        // then
+        assertThat(result.getFullBlockList()).hasSize(1);
+        assertThat(result.getMemberNickName()).isEqualTo("tester");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("블록 수가 늘어나도 일일일정 상세 조회 쿼리 수는 변하지 않는다.")
+    void findDailyCourseDetail_ManyBlocks() {
+        // given
+        createDailyCourse(1L, 30);
+
+        // when
+        statistics.clear();
+        DailyCourseResponseDTO result = dailyCourseRepository.findDailyCourseDetail(1L);
+
+        // then
+        assertThat(result.getFullBlockList()).hasSize(30);
+        assertThat(result.getFullBlockList().get(0).getBlockNum()).isEqualTo(1);
+        assertThat(result.getFullBlockList().get(0).getSmallBlock().getPlaceId()).isEqualTo("place-1");
+        assertThat(result.getFullBlockList().get(0).getStateCode()).isEqualTo("50");
+        assertThat(result.getFullBlockList().get(0).getCategoryCode()).isEqualTo("CE7");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 일일일정은 쿼리 1번 후 null을 반환한다.")
+    void findDailyCourseDetail_NotFound() {
+        // when
+        statistics.clear();
+        DailyCourseResponseDTO result = dailyCourseRepository.findDailyCourseDetail(99L);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void createDailyCourse(Long dailyCourseId, int blockCount) {
+        insertDailyCourse(dailyCourseId, 0);
+
+        // 블록 순서를 역순으로 저장해서 blockNum 정렬 확인
+        for (int i = blockCount; i >= 1; i--) {
+            insertFullBlock((long) i, (long) i);
+            insertDailyBlockConnect((long) i, i, dailyCourseId, (long) i);
+        }
+
+        flushAndClear();
+    }
+}
@@ -0,0 +1,146 @@
+package com.travelock.server;
+
+import com.travelock.server.util.GapOrdering;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class GapOrderingTest {
+
+    @Test
+    @DisplayName("앞뒤 키 사이에 새 항목을 넣으면 사이 값을 받고 기존 키는 유지된다.")
+    void reassign_BetweenNeighbors() {
+        // when
+        List<Integer> keys = GapOrdering.reassign(Arrays.asList(1024, null, null, 2048));
+
+        // then
+        assertThat(keys).containsExactly(1024, 1365, 1706, 2048);
+    }
+
+    @Test
+    @DisplayName("앞뒤 키 사이에 넣을 값이 없으면 전체를 GAP 간격으로 재배치한다.")
+    void reassign_GapExhausted() {
+        // when
+        List<Integer> keys = GapOrdering.reassign(Arrays.asList(1024, null, 1025));
+
+        // then
+        assertThat(keys).containsExactly(1024, 2048, 3072);
+    }
+
+    @Test
+    @DisplayName("맨 뒤 키가 int 범위를 넘으면 전체를 재배치한다.")
+    void reassign_Overflow() {
+        // when
+        List<Integer> keys = GapOrdering.reassign(Arrays.asList(Integer.MAX_VALUE - 10, null));
+
+        // then
+        assertThat(keys).containsExactly(1024, 2048);
+    }
+
+    @Test
+    @DisplayName("키가 없는 기존 항목(null)만 있으면 GAP 간격으로 새 키를 받는다.")
+    void reassign_NullKeys() {
+        // when
+        List<Integer> keys = GapOrdering.reassign(Arrays.asList(null, null, null));
+
+        // then
+        assertThat(keys).containsExactly(1024, 2048, 3072);
+    }
+
+    @Test
+    @DisplayName("순서 번호가 없는(null) 항목은 맨 뒤 정렬 키를 받는다.")
+    void keysFor_NullPositionsLast() {
+        // when
+        List<Integer> keys = GapOrdering.keysFor(Arrays.asList(2, null, 1));
+
+        // then
+        assertThat(keys).containsExactly(2048, 3072, 1024);
+    }
+
+    @Test
+    @DisplayName("맨 앞으로 이동하면 이동한 항목만 첫 키보다 작은 키를 받는다.")
+    void move_ToFirst() {
+        // when
+        Map<String, Integer> changed = GapOrdering.move(ordered(1024, 2048, 3072), "c", null);
+
+        // then
+        assertThat(changed).containsExactly(entry("c", 512));
+    }
+
+    @Test
+    @DisplayName("맨 뒤로 이동하면 이동한 항목만 마지막 키 + GAP 을 받는다.")
+    void move_ToLast() {
+        // when
+        Map<String, Integer> changed = GapOrdering.move(ordered(1024, 2048, 3072), "a", "c");
+
+        // then
+        assertThat(changed).containsExactly(entry("a", 4096));
+    }
+
+    @Test
+    @DisplayName("사이 값이 없는 위치로 이동하면 전체 재배치된 키를 모두 반환한다.")
+    void move_GapExhausted() {
+        // when
+        Map<String, Integer> changed = GapOrdering.move(ordered(1, 2, 3), "c", null);
+
+        // then
+        assertThat(changed).containsExactly(entry("c", 1024), entry("a", 2048), entry("b", 3072));
+    }
+
+    @Test
+    @DisplayName("목록에 없는 항목이나 자기 자신 뒤로의 이동은 null 을 반환한다.")
+    void move_Invalid() {
+        // given
+        LinkedHashMap<String, Integer> orderedKeys = ordered(1024, 2048);
+
+        // when, then
+        assertThat(GapOrdering.move(orderedKeys, "x", null)).isNull();
+        assertThat(GapOrdering.move(orderedKeys, "a", "x")).isNull();
+        assertThat(GapOrdering.move(orderedKeys, "a", "a")).isNull();
+    }
+
+    @Test
+    @DisplayName("N번째 위치에 추가하면 앞뒤 기존 키 사이 값을 받는다.")
+    void insert_BetweenNeighbors() {
+        // when
+        Map<String, Integer> changed = GapOrdering.insert(ordered(1024, 1536, 2048), "n", 3);
+
+        // then
+        assertThat(changed).containsExactly(entry("n", 1792));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 위치는 맨 앞/맨 뒤에 추가한다.")
+    void insert_OutOfRange() {
+        // when, then
+        assertThat(GapOrdering.insert(ordered(1024, 2048), "n", 0)).containsExactly(entry("n", 512));
+        assertThat(GapOrdering.insert(ordered(1024, 2048), "n", 10)).containsExactly(entry("n", 3072));
+        assertThat(GapOrdering.insert(new LinkedHashMap<>(), "n", 1)).containsExactly(entry("n", 1024));
+    }
+
+    @Test
+    @DisplayName("사이 값이 없는 위치에 추가하면 기존 항목도 재배치된다.")
+    void insert_GapExhausted() {
+        // when
+        Map<String, Integer> changed = GapOrdering.insert(ordered(1, 2), "n", 2);
+
+        // then
+        assertThat(changed).containsExactly(entry("a", 1024), entry("n", 2048), entry("b", 3072));
+    }
+
+    // a, b, c ... 순서로 키 부여
+    private LinkedHashMap<String, Integer> ordered(Integer... keys) {
+        LinkedHashMap<String, Integer> orderedKeys = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            orderedKeys.put(String.valueOf((char) ('a' + i)), keys[i]);
+        }
+        return orderedKeys;
+    }
+}
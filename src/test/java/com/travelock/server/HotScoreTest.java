@@ -0,0 +1,108 @@
+package com.travelock.server;
+
+import com.travelock.server.util.HotScore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HotScoreTest {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(72);
+    private static final Instant NOW = Instant.parse("2026-10-18T00:00:00Z");
+
+    private final HotScore hotScore = new HotScore(HALF_LIFE);
+
+    @Test
+    @DisplayName("반감기만큼 지난 이벤트는 현재 이벤트의 절반 값이다.")
+    void decay_HalfLife() {
+        // when
+        double score = hotScore.add(hotScore.add(null, NOW.minus(HALF_LIFE)), NOW);
+
+        // then : 1 + 0.5
+        assertThat(hotScore.decayedValue(score, NOW)).isCloseTo(1.5, within(1e-9));
+        // 반감기가 더 지나면 전체가 절반
+        assertThat(hotScore.decayedValue(score, NOW.plus(HALF_LIFE))).isCloseTo(0.75, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("오래전 이벤트가 많은 일정보다 최근 이벤트가 있는 일정이 높은 점수를 받는다.")
+    void ordering_RecentWins() {
+        // given : 오래된 일정 10건(현재 가치 10/16), 최근 일정 1건
+        Instant fourHalfLivesAgo = NOW.minus(HALF_LIFE.multipliedBy(4));
+        Double oldCourse = null;
+        for (int i = 0; i < 10; i++) {
+            oldCourse = hotScore.add(oldCourse, fourHalfLivesAgo);
+        }
+
+        // when
+        double newCourse = hotScore.add(null, NOW);
+
+        // then
+        assertThat(newCourse).isGreaterThan(oldCourse);
+        assertThat(hotScore.decayedValue(oldCourse, NOW)).isCloseTo(10.0 / 16, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("저장 값 순서는 시간이 지나도 현재 감쇠 값 순서와 같다.")
+    void ordering_StableOverTime() {
+        // given : 2건(1 + 0.5), 1건(1), 최근 반감기 전 3건(0.5 * 3)
+        double a = hotScore.add(hotScore.add(null, NOW.minus(HALF_LIFE)), NOW);
+        double b = hotScore.add(null, NOW);
+        Double c = null;
+        for (int i = 0; i < 3; i++) {
+            c = hotScore.add(c, NOW.minus(HALF_LIFE));
+        }
+
+        // then : 저장 값 a = c > b, 감쇠 값도 몇 반감기가 지나든 같은 순서
+        assertThat(a).isCloseTo(c, within(1e-9));
+        assertThat(a).isGreaterThan(b);
+        for (int halfLives = 0; halfLives <= 10; halfLives++) {
+            Instant later = NOW.plus(HALF_LIFE.multipliedBy(halfLives));
+            assertThat(hotScore.decayedValue(a, later)).isGreaterThan(hotScore.decayedValue(b, later));
+            assertThat(hotScore.decayedValue(b, later) * 1.5).isCloseTo(hotScore.decayedValue(a, later), within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("logAddExp 는 e^x 가 overflow 되는 큰 값에서도 유한한 값을 반환한다.")
+    void logAddExp_NoOverflow() {
+        // e^1000 은 double 범위를 넘음
+        assertThat(Math.exp(1000.0)).isInfinite();
+
+        // log(e^1000 + e^1000) = 1000 + ln2
+        assertThat(HotScore.logAddExp(1000.0, 1000.0)).isCloseTo(1000.0 + Math.log(2), within(1e-9));
+        // 차이가 아주 크면 큰 값 그대로
+        assertThat(HotScore.logAddExp(1000.0, -1000.0)).isCloseTo(1000.0, within(1e-12));
+        // 순서와 관계없음
+        assertThat(HotScore.logAddExp(2.0, 1.0)).isEqualTo(HotScore.logAddExp(1.0, 2.0));
+        assertThat(HotScore.logAddExp(1.0, 2.0)).isCloseTo(Math.log(Math.exp(1.0) + Math.exp(2.0)), within(1e-12));
+    }
+
+    @Test
+    @DisplayName("기준 시각에서 수십 년이 지나도 저장 값과 감쇠 값이 유한하다.")
+    void add_FarFuture() {
+        // given : 50년 뒤 이벤트 2건
+        Instant farFuture = NOW.plus(Duration.ofDays(365L * 50));
+
+        // when
+        double score = hotScore.add(hotScore.add(null, farFuture), farFuture);
+
+        // then
+        assertThat(score).isFinite();
+        assertThat(hotScore.decayedValue(score, farFuture)).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("반감기가 0 이하면 생성할 수 없다.")
+    void create_InvalidHalfLife() {
+        assertThatThrownBy(() -> new HotScore(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HotScore(Duration.ofHours(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HotScore(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
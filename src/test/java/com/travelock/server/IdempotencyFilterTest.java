@@ -0,0 +1,154 @@
+package com.travelock.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelock.server.filter.IdempotencyFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String URL = "/api/course/daily/favorite/1?memberId=7";
+    private static final String REDIS_KEY = "idempotency:/api/course/daily/favorite/1?memberId=7:key-1";
+
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private final FavoriteController controller = new FavoriteController();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler.initialize();
+        IdempotencyFilter filter = new IdempotencyFilter(stringRedisTemplate, objectMapper, taskScheduler);
+        ReflectionTestUtils.setField(filter, "ttlHours", 24L);
+        ReflectionTestUtils.setField(filter, "lockSeconds", 30L);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(filter)
+                .build();
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("처음 받은 키는 요청을 처리하고 성공 응답을 TTL 동안 저장한다.")
+    void firstRequest_StoresResponse() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), startsWith("PENDING"), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        // when, then
+        mockMvc.perform(post(URL).header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dailyCourseId").value(1))
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        assertThat(controller.calls.get()).isEqualTo(1);
+        verify(valueOperations).set(eq(REDIS_KEY), contains("\"status\":200"), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 키로 다시 오면 컨트롤러를 거치지 않고 저장된 응답을 반환한다.")
+    void replay_StoredResponse() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(REDIS_KEY)).thenReturn(
+                "{\"status\":200,\"contentType\":\"application/json\",\"body\":\"{\\\"dailyCourseId\\\":1}\"}");
+
+        // when, then
+        mockMvc.perform(post(URL).header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.dailyCourseId").value(1));
+
+        assertThat(controller.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리중인 키로 다시 오면 409를 반환한다.")
+    void pending_Conflict() throws Exception {
+        // given
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(REDIS_KEY)).thenReturn("PENDING:other-request");
+
+        // when, then
+        mockMvc.perform(post(URL).header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1"))
+                .andExpect(status().isConflict());
+
+        assertThat(controller.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패 응답은 저장하지 않는다. (같은 키로 재시도 가능)")
+    void failedResponse_NotStored() throws Exception {
+        // given
+        String url = "/api/course/daily/favorite/0?memberId=7";
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // when, then
+        mockMvc.perform(post(url).header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1"))
+                .andExpect(status().isBadRequest());
+
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 중복 검사 없이 처리한다.")
+    void noHeader_PassThrough() throws Exception {
+        // when, then
+        mockMvc.perform(post(URL))
+                .andExpect(status().isOk());
+
+        assertThat(controller.calls.get()).isEqualTo(1);
+        verifyNoInteractions(valueOperations);
+    }
+
+
+    @RestController
+    static class FavoriteController {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @PostMapping("/api/course/daily/favorite/{dailyCourseId}")
+        ResponseEntity<?> favorite(@PathVariable("dailyCourseId") Long dailyCourseId) {
+            calls.incrementAndGet();
+            if (dailyCourseId == 0) {
+                return ResponseEntity.badRequest().body("invalid");
+            }
+            return ResponseEntity.ok(Map.of("dailyCourseId", dailyCourseId));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.travelock.server;
+
+import com.travelock.server.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * H2(MariaDB 모드) JPA 테스트 공통 설정
+ * - 테스트마다 회원(1), 지역(1), 카테고리(1) 저장 (BaseTime 엔티티는 auditing을 피하기 위해 native insert)
+ * - 추가 설정은 하위 클래스에서 @TestPropertySource 로
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:travelock;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+abstract class JpaTestSupport {
+
+    protected static final long MEMBER_ID = 1L;
+
+    @Autowired
+    protected EntityManager em;
+
+    @BeforeEach
+    void insertReferenceData() {
+        insert("INSERT INTO member (member_id, email, nick_name) VALUES (?1, 'test@example.com', 'tester')", MEMBER_ID);
+        insert("INSERT INTO state (state_id, state_code, state_name) VALUES (1, '50', '제주특별자치도')");
+        insert("INSERT INTO big_block (big_block_id, city_code, city_name, city_info_id) VALUES (1, '110', '제주시', 1)");
+        insert("INSERT INTO middle_block (middle_block_id, category_code, category_name) VALUES (1, 'CE7', '카페')");
+    }
+
+    protected void insertFullCourse(Long fullCourseId, long version) {
+        insert("INSERT INTO full_course (full_course_id, title, favorite_count, scarp_count, version, member_id) " +
+                "VALUES (?1, 'title', 0, 0, ?2, ?3)", fullCourseId, version, MEMBER_ID);
+    }
+
+    protected void insertDailyCourse(Long dailyCourseId, long version) {
+        insert("INSERT INTO daily_course (daily_course_id, favorite_count, scarp_count, version, member_id) VALUES (?1, 0, 0, ?2, ?3)",
+                dailyCourseId, version, MEMBER_ID);
+    }
+
+    // 장소 place-{id}, 지역/카테고리 1
+    protected void insertFullBlock(Long fullBlockId, Long smallBlockId) {
+        insert("INSERT INTO small_block (small_block_id, place_id, map_x, map_y, reference_count, middle_block_id) " +
+                "VALUES (?1, ?2, '126.5', '33.4', 1, 1)", smallBlockId, "place-" + smallBlockId);
+        insert("INSERT INTO full_block (full_block_id, big_block_id, middle_block_id, small_block_id) VALUES (?1, 1, 1, ?2)",
+                fullBlockId, smallBlockId);
+    }
+
+    protected void insertDailyBlockConnect(Long dailyBlockConnectId, int blockNum, Long dailyCourseId, Long fullBlockId) {
+        insert("INSERT INTO daily_block_connect (daily_block_connect_id, block_num, daily_course_id, full_block_id) " +
+                "VALUES (?1, ?2, ?3, ?4)", dailyBlockConnectId, blockNum, dailyCourseId, fullBlockId);
+    }
+
+    // 저장 후 영속성 컨텍스트 비움 (조회 쿼리 수, 벌크 UPDATE 결과를 DB 기준으로 확인)
+    protected void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    protected void insert(String sql, Object... params) {
+        var nativeQuery = em.createNativeQuery(sql);
+        for (int i = 0; i < params.length; i++) {
+            nativeQuery.setParameter(i + 1, params[i]);
+        }
+        nativeQuery.executeUpdate();
+    }
+}